@@ -3,6 +3,11 @@ package com.example.demo.common.config;
 import com.example.demo.common.config.properties.DataDBSourceProperties;
 import com.example.demo.common.config.properties.MetaDBSourceProperties;
 import com.example.demo.domain.member.service.properties.EmailProperties;
+import com.example.demo.domain.post.service.properties.PostViewDedupeProperties;
+import com.example.demo.infra.elasticsearch.common.config.properties.ElasticsearchBulkProperties;
+import com.example.demo.infra.redis.config.properties.CacheCodecProperties;
+import com.example.demo.infra.redis.config.properties.CacheRefreshProperties;
+import com.example.demo.infra.redis.config.properties.NearCacheProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -18,6 +23,15 @@ import org.springframework.context.annotation.Configuration;
  * 25. 8. 24.    oldolgol331          Initial creation
  */
 @Configuration
-@EnableConfigurationProperties({DataDBSourceProperties.class, MetaDBSourceProperties.class, EmailProperties.class})
+@EnableConfigurationProperties({
+        DataDBSourceProperties.class,
+        MetaDBSourceProperties.class,
+        EmailProperties.class,
+        NearCacheProperties.class,
+        CacheRefreshProperties.class,
+        CacheCodecProperties.class,
+        PostViewDedupeProperties.class,
+        ElasticsearchBulkProperties.class
+})
 public class EnableConfigurationPropertiesConfig {
 }
@@ -0,0 +1,110 @@
+package com.example.demo.common.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * PackageName : com.example.demo.common.config
+ * FileName    : ExecutorConfig
+ * Author      : oldolgol331
+ * Date        : 25. 9. 13.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 13.    oldolgol331          Initial creation
+ */
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+    private static final long SLOW_TASK_THRESHOLD_MILLIS = 200L;
+
+    /**
+     * 게시글 목록 조회 시 목록 조회와 독립적인 전체 수 조회를 동시에 실행하는 Executor입니다. 큐가 가득 차면 호출 스레드에서 직접 실행해 요청 수를
+     * 제한합니다.
+     *
+     * @return 게시글 조회용 Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor postQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(32);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("post-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(slowTaskLoggingDecorator("postQueryExecutor"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+
+    /**
+     * 논리적으로 만료된 캐시 항목을 백그라운드에서 다시 적재하는 Executor입니다. 갱신은 이전 값을 반환한 뒤 수행되므로, 큐가 가득 차면 작업을
+     * 거절하고 다음 조회에서 다시 시도합니다.
+     *
+     * @return 캐시 갱신용 Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(slowTaskLoggingDecorator("cacheRefreshExecutor"));
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+
+    /**
+     * DB → Elasticsearch 마이그레이션의 파티션을 동시에 실행하는 Executor입니다. 파티션마다 DB 커넥션과 Elasticsearch 벌크 요청을 사용하므로
+     * 스레드 수는 커넥션 풀 크기 안에서 정합니다.
+     *
+     * @param threads - 동시에 실행할 파티션 수
+     * @return 마이그레이션 파티션용 Executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor postMigrationExecutor(@Value("${post.sync.partition.threads:4}") final int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("post-migration-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 큐 대기 시간과 실행 시간을 측정해, 임계값을 넘은 작업을 기록하는 TaskDecorator를 생성합니다.
+     *
+     * @param executorName - Executor 이름
+     * @return TaskDecorator
+     */
+    private TaskDecorator slowTaskLoggingDecorator(final String executorName) {
+        return runnable -> {
+            long submittedAt = System.currentTimeMillis();
+            return () -> {
+                long startedAt = System.currentTimeMillis();
+                try {
+                    runnable.run();
+                } finally {
+                    long waited  = startedAt - submittedAt;
+                    long elapsed = System.currentTimeMillis() - startedAt;
+                    if (waited + elapsed > SLOW_TASK_THRESHOLD_MILLIS)
+                        log.warn("Slow task on {}. waited: {}ms, elapsed: {}ms", executorName, waited, elapsed);
+                }
+            };
+        };
+    }
+
+}
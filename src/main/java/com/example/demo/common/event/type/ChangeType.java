@@ -12,5 +12,5 @@ package com.example.demo.common.event.type;
  * 25. 8. 27.    oldolgol331          Initial creation
  */
 public enum ChangeType {
-    CREATED, UPDATED, DELETED
+    CREATED, UPDATED, DELETED, COUNTERS
 }
@@ -88,11 +88,12 @@ public class SecurityConfig {
 
                     //Post
                     .mvcMatchers(POST, "/api/v1/posts").authenticated()
-                    .mvcMatchers(GET, "/api/v1/posts", "/api/v1/posts/{id}").permitAll()
+                    .mvcMatchers(GET, "/api/v1/posts", "/api/v1/posts/scroll", "/api/v1/posts/{id}").permitAll()
                     .mvcMatchers(PUT, "/api/v1/posts/{id}").authenticated()
                     .mvcMatchers(DELETE, "/api/v1/posts/{id}").authenticated()
                     .mvcMatchers(PATCH, "/api/v1/posts/{id}").authenticated()
                     .mvcMatchers(POST, "/api/v1/posts/batch").hasAuthority("ROLE_ADMIN")
+                    .mvcMatchers(POST, "/api/v1/posts/batch/reindex").hasAuthority("ROLE_ADMIN")
 
                     //Comment
                     .mvcMatchers(POST, "/api/v1/comments/{postId}").authenticated()
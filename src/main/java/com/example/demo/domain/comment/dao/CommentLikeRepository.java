@@ -3,7 +3,11 @@ package com.example.demo.domain.comment.dao;
 import com.example.demo.common.config.annotation.DataDBJpaRepositoryMarker;
 import com.example.demo.domain.comment.model.CommentLike;
 import com.example.demo.domain.comment.model.CommentLikeId;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PackageName : com.example.demo.domain.comment.dao
@@ -18,4 +22,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 @DataDBJpaRepositoryMarker
 public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (member_id, comment_id, created_at, updated_at) "
+                   + "VALUES (:memberId, :commentId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("memberId") UUID memberId, @Param("commentId") Long commentId);
+
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.memberId = :memberId AND cl.commentId = :commentId")
+    int deleteByMemberIdAndCommentId(@Param("memberId") UUID memberId, @Param("commentId") Long commentId);
+
 }
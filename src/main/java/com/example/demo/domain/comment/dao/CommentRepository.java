@@ -5,6 +5,9 @@ import com.example.demo.domain.comment.model.Comment;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PackageName : com.example.demo.domain.comment.dao
@@ -24,4 +27,12 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
 
     Optional<Comment> findByIdAndWriterIdAndPostIdAndIsDeletedFalse(Long id, UUID writerId, Long postId);
 
+    @Query("SELECT c.writer.id FROM Comment c "
+           + "WHERE c.id = :id AND c.post.id = :postId AND c.isDeleted = false AND c.post.isDeleted = false")
+    Optional<UUID> findWriterIdByIdAndPostId(@Param("id") Long id, @Param("postId") Long postId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + :amount WHERE c.id = :commentId")
+    void updateLikeCount(@Param("commentId") Long commentId, @Param("amount") int amount);
+
 }
@@ -19,7 +19,6 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
-import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 import javax.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -98,16 +97,6 @@ public class Comment extends BaseAuditingEntity {
         return comment;
     }
 
-    // ========================= JPA Callback Methods =========================
-
-    /**
-     * 좋아요 수를 업데이트합니다.
-     */
-    @PreUpdate
-    private void updateLikeCount() {
-        likeCount = commentLikes.size();
-    }
-
     // ========================= Relationship Methods =========================
 
     /**
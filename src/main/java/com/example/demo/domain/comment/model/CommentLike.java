@@ -39,7 +39,10 @@ import lombok.NoArgsConstructor;
 public class CommentLike extends BaseAuditingEntity {
 
     @Id
-    @Column(name = "member_id", nullable = false, insertable = false, updatable = false)
+    @Column(
+            name = "member_id", columnDefinition = "BINARY(16)", nullable = false, insertable = false,
+            updatable = false
+    )
     private UUID memberId;
 
     @Id
@@ -13,14 +13,18 @@ import com.example.demo.domain.comment.dto.CommentRequest.CommentCreateRequest;
 import com.example.demo.domain.comment.dto.CommentRequest.CommentUpdateRequest;
 import com.example.demo.domain.comment.dto.CommentResponse.CommentListResponse;
 import com.example.demo.domain.comment.model.Comment;
-import com.example.demo.domain.comment.model.CommentLike;
-import com.example.demo.domain.comment.model.CommentLikeId;
 import com.example.demo.domain.member.dao.MemberRepository;
 import com.example.demo.domain.member.model.Member;
 import com.example.demo.domain.post.dao.PostRepository;
+import com.example.demo.domain.post.dao.counter.PostCounterWriter;
+import com.example.demo.domain.post.event.event.PostCountersChangedEvent;
 import com.example.demo.domain.post.model.Post;
+import com.example.demo.domain.post.service.PostCacheService;
+import com.example.demo.domain.post.service.PostCountService;
+import java.util.Collections;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -42,10 +46,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
-    private final CommentRepository     commentRepository;
-    private final CommentLikeRepository commentLikeRepository;
-    private final PostRepository        postRepository;
-    private final MemberRepository      memberRepository;
+    private final CommentRepository         commentRepository;
+    private final CommentLikeRepository     commentLikeRepository;
+    private final PostRepository            postRepository;
+    private final MemberRepository          memberRepository;
+    private final PostCacheService          postCacheService;
+    private final PostCountService          postCountService;
+    private final PostCounterWriter         postCounterWriter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 댓글을 생성합니다.
@@ -64,7 +72,10 @@ public class CommentServiceImpl implements CommentService {
         Post post = postRepository.findByIdAndIsDeletedFalse(postId)
                                   .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
         Comment savedComment = commentRepository.save(Comment.of(writer, post, request.getContent()));
-        postRepository.updateCommentCount(savedComment.getPost().getId(), 1);
+        postCounterWriter.addComments(savedComment.getPost().getId(), 1);
+        postCountService.incrementCommentCount(postId, 1);
+        postCacheService.evictPostDetailCache(postId);
+        eventPublisher.publishEvent(PostCountersChangedEvent.of(Collections.singleton(postId)));
     }
 
     /**
@@ -117,11 +128,15 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findByIdAndWriterIdAndPostIdAndIsDeletedFalse(commentId, writerId, postId)
                                            .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
         comment.delete();
-        postRepository.updateCommentCount(comment.getPost().getId(), -1);
+        postCounterWriter.addComments(comment.getPost().getId(), -1);
+        postCountService.incrementCommentCount(postId, -1);
+        postCacheService.evictPostDetailCache(postId);
+        eventPublisher.publishEvent(PostCountersChangedEvent.of(Collections.singleton(postId)));
     }
 
     /**
-     * 댓글에 좋아요를 추가하거나 추가된 좋아요를 취소합니다.
+     * 댓글에 좋아요를 추가하거나 추가된 좋아요를 취소합니다. 엔티티를 조회하지 않고 좋아요 행을 삭제하거나 추가한 뒤, 실제로 변경된 행 수만큼 댓글의
+     * 좋아요 수를 갱신합니다.
      *
      * @param commentId - 댓글 ID
      * @param postId    - 게시글 ID
@@ -130,18 +145,17 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     @Override
     public void likeComment(final Long commentId, final Long postId, final UUID memberId) {
-        Member member = memberRepository.findByIdAndMemberStatus(memberId, ACTIVE)
-                                        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-        Post post = postRepository.findByIdAndIsDeletedFalse(postId)
-                                  .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
-        Comment comment = commentRepository.findByIdAndIsDeletedFalse(commentId)
-                                           .orElseThrow(() -> new CustomException(COMMENT_NOT_FOUND));
+        if (!memberRepository.existsByIdAndMemberStatus(memberId, ACTIVE)) throw new CustomException(MEMBER_NOT_FOUND);
 
-        if (comment.getWriter().getId().equals(memberId)) throw new CustomException(COMMENT_LIKE_CANNOT);
+        UUID writerId = commentRepository.findWriterIdByIdAndPostId(commentId, postId).orElseThrow(() -> {
+            if (!postRepository.existsByIdAndIsDeletedFalse(postId)) return new CustomException(POST_NOT_FOUND);
+            return new CustomException(COMMENT_NOT_FOUND);
+        });
+        if (writerId.equals(memberId)) throw new CustomException(COMMENT_LIKE_CANNOT);
 
-        CommentLikeId commentLikeId = CommentLikeId.builder().memberId(memberId).commentId(commentId).build();
-        if (commentLikeRepository.existsById(commentLikeId)) commentLikeRepository.deleteById(commentLikeId);
-        else commentLikeRepository.save(CommentLike.of(member, comment));
+        int delta = commentLikeRepository.deleteByMemberIdAndCommentId(memberId, commentId) > 0
+                    ? -1 : commentLikeRepository.insertIfAbsent(memberId, commentId);
+        if (delta != 0) commentRepository.updateLikeCount(commentId, delta);
     }
 
 }
@@ -18,9 +18,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = PRIVATE)
 public class PostConst {
 
-    public static final String POST_VIEW_LOG_KEY_PREFIX   = "post:view:log:%s:%s";
-    public static final String POST_VIEW_COUNT_KEY_PREFIX = "post:view:count:%s";
-    public static final String POST_VIEW_COUNT_PATTERN    = "post:view:count:*";
-    public static final String POST_VIEW_KEY_PREFIX       = "post:view:%s";
+    public static final String POST_VIEW_LOG_KEY_PREFIX       = "post:view:log:%s:%s";
+    public static final String POST_VIEW_COUNT_BUCKET_KEY     = "post:views:%s";
+    public static final String POST_VIEW_DIRTY_KEY            = "post:view:dirty";
+    public static final String POST_VIEW_DRAINING_KEY         = "post:view:draining";
+    public static final String POST_VIEW_HLL_KEY_PREFIX       = "post:view:hll:%s:%s";
+    public static final String POST_VIEW_BLOOM_KEY_PREFIX     = "post:view:bloom:%s";
+    public static final String POST_STATS_KEY_PREFIX          = "post:stats:%s";
+    public static final String POST_STATS_VIEWS_FIELD         = "views";
+    public static final String POST_STATS_LIKES_FIELD         = "likes";
+    public static final String POST_STATS_COMMENTS_FIELD      = "comments";
+    public static final String POST_LIKES_KEY_PREFIX          = "post:likes:%s";
+    public static final String POST_LIKE_PENDING_KEY          = "post:like:pending";
+    public static final String POST_LIKE_DRAINING_KEY         = "post:like:draining";
+    public static final String POST_DETAIL_VERSION_KEY_PREFIX = "post:detail:version:%s";
+    public static final String POST_LIST_PAGES_KEY_PREFIX     = "post:list:pages:%s";
+    public static final String POST_TOTAL_COUNT_KEY           = "post:total:count";
+    public static final String POST_KEYWORD_COUNT_KEY_PREFIX  = "post:keyword:count:%s";
+    public static final String POST_FRONT_PAGE_IDS_KEY        = "post:front:ids";
+    public static final String POST_FRONT_PAGE_SUMMARIES_KEY  = "post:front:summaries";
+    public static final String POST_FRONT_PAGE_READY_KEY      = "post:front:ready";
+    public static final String POST_FRONT_PAGE_REBUILD_KEY    = "post:front:rebuild";
 
 }
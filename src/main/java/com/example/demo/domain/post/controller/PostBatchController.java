@@ -1,5 +1,6 @@
 package com.example.demo.domain.post.controller;
 
+import static com.example.demo.common.response.SuccessCode.POST_BATCH_REINDEX_SUCCESS;
 import static com.example.demo.common.response.SuccessCode.POST_BATCH_SYNC_SUCCESS;
 
 import com.example.demo.common.response.ApiResponse;
@@ -38,4 +39,11 @@ public class PostBatchController {
         return ResponseEntity.ok(ApiResponse.success(POST_BATCH_SYNC_SUCCESS));
     }
 
+    @PostMapping("/reindex")
+    @Operation(summary = "게시글 재색인 작업 호출", description = "새 버전 인덱스에 전체 게시글을 적재한 뒤 검색 별칭을 옮깁니다.")
+    public ResponseEntity<ApiResponse<Void>> runPostIndexRebuildJob() {
+        postBatchJobService.runPostIndexRebuildJob();
+        return ResponseEntity.ok(ApiResponse.success(POST_BATCH_REINDEX_SUCCESS));
+    }
+
 }
@@ -13,6 +13,7 @@ import com.example.demo.common.response.annotation.CustomPageResponse;
 import com.example.demo.common.security.model.CustomUserDetails;
 import com.example.demo.domain.post.dto.PostRequest.PostCreateRequest;
 import com.example.demo.domain.post.dto.PostRequest.PostUpdateRequest;
+import com.example.demo.domain.post.dto.PostResponse.PostCursorResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import com.example.demo.domain.post.service.PostService;
@@ -20,6 +21,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -103,6 +105,17 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success(POST_LIST_SEARCH_SUCCESS, responseData));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "게시글 커서 목록 조회", description = "커서를 사용해 특정 키워드를 포함한 게시글 목록을 최신순으로 이어서 조회합니다.")
+    public ResponseEntity<ApiResponse<PostCursorResponse>> getPostsByCursor(
+            @RequestParam(value = "keyword", required = false) final String keyword,
+            @RequestParam(value = "cursor", required = false) final String cursor,
+            @RequestParam(value = "size", defaultValue = "10") @Min(1) @Max(100) final int size
+    ) {
+        PostCursorResponse responseData = postService.getPostsByCursor(keyword, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(POST_LIST_SEARCH_SUCCESS, responseData));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "게시글 수정", description = "특정 게시글의 정보를 수정합니다.")
     public ResponseEntity<ApiResponse<PostDetailResponse>> updatePost(
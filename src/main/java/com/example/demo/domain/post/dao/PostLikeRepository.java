@@ -3,7 +3,11 @@ package com.example.demo.domain.post.dao;
 import com.example.demo.common.config.annotation.DataDBJpaRepositoryMarker;
 import com.example.demo.domain.post.model.PostLike;
 import com.example.demo.domain.post.model.PostLikeId;
+import java.util.List;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * PackageName : com.example.demo.domain.post.dao
@@ -18,4 +22,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 @DataDBJpaRepositoryMarker
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
+
+    @Query("SELECT pl.memberId FROM PostLike pl WHERE pl.postId = :postId")
+    List<UUID> findMemberIdsByPostId(@Param("postId") Long postId);
+
 }
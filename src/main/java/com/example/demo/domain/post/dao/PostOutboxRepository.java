@@ -0,0 +1,124 @@
+package com.example.demo.domain.post.dao;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import com.example.demo.common.event.type.ChangeType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PackageName : com.example.demo.domain.post.dao
+ * FileName    : PostOutboxRepository
+ * Author      : oldolgol331
+ * Date        : 25. 9. 26.
+ * Description : 게시글 변경 이벤트를 업무 트랜잭션 안에서 기록하고, 릴레이가 일괄로 읽고 지우는 아웃박스 저장소
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 26.    oldolgol331          Initial creation
+ */
+@Repository
+public class PostOutboxRepository {
+
+    private static final String INSERT_SQL        = "INSERT INTO post_outbox (post_id, change_type, created_at) "
+                                                    + "VALUES (?, ?, ?)";
+    private static final String SELECT_BATCH_SQL  = "SELECT outbox_id, post_id, change_type, created_at "
+                                                    + "FROM post_outbox ORDER BY outbox_id LIMIT ?";
+    private static final String SELECT_OLDEST_SQL = "SELECT MIN(created_at) FROM post_outbox";
+    private static final String DELETE_SQL        = "DELETE FROM post_outbox WHERE outbox_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostOutboxRepository(@Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 게시글 변경을 아웃박스에 기록합니다. 호출한 트랜잭션에 참여하므로 업무 데이터와 함께 커밋되거나 롤백됩니다.
+     *
+     * @param postId     - 게시글 ID
+     * @param changeType - 변경 유형
+     */
+    public void append(final Long postId, final ChangeType changeType) {
+        jdbcTemplate.update(INSERT_SQL, postId, changeType.name(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 여러 게시글의 같은 유형의 변경을 한 번의 배치로 아웃박스에 기록합니다. 호출한 트랜잭션에 참여합니다.
+     *
+     * @param postIds    - 게시글 ID 목록
+     * @param changeType - 변경 유형
+     */
+    public void appendAll(final Collection<Long> postIds, final ChangeType changeType) {
+        if (postIds.isEmpty()) return;
+
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                postIds.stream()
+                       .map(postId -> new Object[]{postId, changeType.name(), createdAt})
+                       .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * 기록된 순서대로 최대 limit개의 변경을 조회합니다.
+     *
+     * @param limit - 최대 조회 수
+     * @return 아웃박스 레코드 목록
+     */
+    public List<PostOutboxRecord> findBatch(final int limit) {
+        return jdbcTemplate.query(
+                SELECT_BATCH_SQL,
+                (rs, rowNum) -> new PostOutboxRecord(
+                        rs.getLong("outbox_id"),
+                        rs.getLong("post_id"),
+                        ChangeType.valueOf(rs.getString("change_type")),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                limit
+        );
+    }
+
+    /**
+     * 아직 전달되지 않은 가장 오래된 변경의 기록 일시를 조회합니다.
+     *
+     * @return 가장 오래된 기록 일시, 없으면 빈 값
+     */
+    public Optional<LocalDateTime> findOldestCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    /**
+     * 전달이 끝난 변경을 삭제합니다.
+     *
+     * @param outboxIds - 아웃박스 ID 목록
+     */
+    public void deleteAll(final List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) return;
+
+        String placeholders = String.join(",", Collections.nCopies(outboxIds.size(), "?"));
+        jdbcTemplate.update(String.format(DELETE_SQL, placeholders), outboxIds.toArray());
+    }
+
+    @Getter
+    @RequiredArgsConstructor(access = PRIVATE)
+    public static class PostOutboxRecord {
+        private final long          id;
+        private final long          postId;
+        private final ChangeType    changeType;
+        private final LocalDateTime createdAt;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.example.demo.domain.post.dao;
 
 import com.example.demo.common.config.annotation.DataDBJpaRepositoryMarker;
 import com.example.demo.domain.post.model.Post;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -30,7 +31,12 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     boolean existsByIdAndIsDeletedFalse(Long id);
 
     @Modifying(clearAutomatically = true)
-    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :amount WHERE p.id = :postId")
-    void updateCommentCount(@Param("postId") Long postId, @Param("amount") int amount);
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :amount, p.countersUpdatedAt = :countersUpdatedAt, "
+           + "p.updatedAt = p.updatedAt WHERE p.id = :postId")
+    void updateCommentCount(
+            @Param("postId") Long postId,
+            @Param("amount") int amount,
+            @Param("countersUpdatedAt") LocalDateTime countersUpdatedAt
+    );
 
 }
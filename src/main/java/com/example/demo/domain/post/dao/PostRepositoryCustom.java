@@ -2,9 +2,15 @@ package com.example.demo.domain.post.dao;
 
 import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
+import com.example.demo.domain.post.model.PostCursor;
+import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * PackageName : com.example.demo.domain.post.dao
@@ -23,4 +29,10 @@ public interface PostRepositoryCustom {
 
     Page<PostListResponse> getPosts(String keyword, Pageable pageable);
 
+    Slice<PostListResponse> getPostsByCursor(String keyword, PostCursor cursor, int size);
+
+    Optional<PostListResponse> getPostSummary(Long postId);
+
+    Map<Long, PostCountDto> getCounts(List<Long> postIds);
+
 }
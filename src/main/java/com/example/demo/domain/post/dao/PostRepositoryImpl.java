@@ -6,7 +6,9 @@ import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import com.example.demo.domain.post.dto.QPostResponse_PostDetailResponse;
 import com.example.demo.domain.post.dto.QPostResponse_PostListResponse;
+import com.example.demo.domain.post.model.PostCursor;
 import com.example.demo.domain.post.model.QPost;
+import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -14,13 +16,23 @@ import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,14 +47,28 @@ import org.springframework.util.StringUtils;
  * 25. 8. 25.    oldolgol331          Initial creation
  */
 @Repository
-@RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
 
     private static final QPost    POST    = QPost.post;
     private static final QMember  MEMBER  = QMember.member;
     private static final QComment COMMENT = QComment.comment;
 
+    private static final String SUM_SHARDS_SQL = "SELECT post_id, SUM(comments), SUM(views) FROM post_counter_shards "
+                                                 + "WHERE post_id IN (:postIds) GROUP BY post_id";
+
     private final JPAQueryFactory jpaQueryFactory;
+    private final EntityManager   entityManager;
+    private final boolean         counterShardingEnabled;
+
+    public PostRepositoryImpl(
+            final JPAQueryFactory jpaQueryFactory,
+            final EntityManager entityManager,
+            @Value("${post.counter.sharding.enabled:false}") final boolean counterShardingEnabled
+    ) {
+        this.jpaQueryFactory = jpaQueryFactory;
+        this.entityManager = entityManager;
+        this.counterShardingEnabled = counterShardingEnabled;
+    }
 
     /**
      * 게시글 상세 정보를 조회합니다.
@@ -154,8 +180,129 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 커서 이후의 게시글 목록을 최신순으로 조회합니다. OFFSET 대신 (생성 일시, ID) 키셋 조건을 사용하므로 조회 위치가 깊어져도 비용이 일정합니다.
+     *
+     * @param keyword - 검색어
+     * @param cursor  - 마지막으로 조회한 게시글 커서, 첫 조회일 경우 null
+     * @param size    - 조회 개수
+     * @return 게시글 슬라이스 목록 응답 DTO
+     */
+    @Override
+    public Slice<PostListResponse> getPostsByCursor(final String keyword, final PostCursor cursor, final int size) {
+        List<PostListResponse> content = jpaQueryFactory.select(
+                                                                new QPostResponse_PostListResponse(
+                                                                        POST.id,
+                                                                        MEMBER.id,
+                                                                        MEMBER.nickname,
+                                                                        POST.title,
+                                                                        POST.viewCount,
+                                                                        POST.likeCount,
+                                                                        POST.isDeleted,
+                                                                        POST.createdAt,
+                                                                        POST.updatedAt,
+                                                                        POST.commentCount
+                                                                )
+                                                        )
+                                                        .from(POST)
+                                                        .join(POST.writer, MEMBER)
+                                                        .where(matchAgainstKeyword(keyword), afterCursor(cursor))
+                                                        .orderBy(POST.createdAt.desc(), POST.id.desc())
+                                                        .limit(size + 1)
+                                                        .fetch();
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) content.remove(size);
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 삭제되지 않은 게시글의 목록용 요약 정보를 조회합니다. 엔티티를 적재하지 않고 작성자와 조인한 프로젝션으로 조회하므로 영속성 컨텍스트 밖에서도
+     * 지연 로딩 없이 사용할 수 있고, 댓글 수는 댓글을 적재하지 않고 게시글의 comment_count를 사용합니다.
+     *
+     * @param postId - 게시글 ID
+     * @return 게시글 목록 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<PostListResponse> getPostSummary(final Long postId) {
+        return Optional.ofNullable(
+                jpaQueryFactory.select(
+                                       new QPostResponse_PostListResponse(
+                                               POST.id,
+                                               MEMBER.id,
+                                               MEMBER.nickname,
+                                               POST.title,
+                                               POST.viewCount,
+                                               POST.likeCount,
+                                               POST.isDeleted,
+                                               POST.createdAt,
+                                               POST.updatedAt,
+                                               POST.commentCount
+                                       )
+                               )
+                               .from(POST)
+                               .join(POST.writer, MEMBER)
+                               .where(POST.id.eq(postId), POST.isDeleted.isFalse())
+                               .fetchOne()
+        );
+    }
+
+    /**
+     * 게시글의 조회수, 좋아요 수, 댓글 수를 조회합니다. 카운터 분할 행을 사용하는 경우 아직 게시글 행에 합산되지 않은 분할 행의 증감분을 더합니다.
+     *
+     * @param postIds - 게시글 ID 목록
+     * @return 게시글 ID와 조회수, 좋아요 수, 댓글 수를 포함한 DTO
+     */
+    @Override
+    public Map<Long, PostCountDto> getCounts(final List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, long[]> pendingDeltas = counterShardingEnabled ? getPendingShardDeltas(postIds)
+                                                                 : Collections.emptyMap();
+
+        return jpaQueryFactory.select(POST.id, POST.viewCount, POST.likeCount, POST.commentCount)
+                              .from(POST)
+                              .where(POST.id.in(postIds))
+                              .fetch()
+                              .stream()
+                              .collect(Collectors.toMap(
+                                      tuple -> tuple.get(POST.id),
+                                      tuple -> {
+                                          long[] delta = pendingDeltas.getOrDefault(tuple.get(POST.id), new long[2]);
+                                          return PostCountDto.of(
+                                                  tuple.get(POST.viewCount) + delta[1],
+                                                  tuple.get(POST.likeCount),
+                                                  tuple.get(POST.commentCount) + (int) delta[0]
+                                          );
+                                      }
+                              ));
+    }
+
     // ========================= Private Methods =========================
 
+    /**
+     * 카운터 분할 행에 누적되어 아직 게시글 행에 합산되지 않은 댓글 수, 조회수 증감분을 게시글별로 조회합니다.
+     *
+     * @param postIds - 게시글 ID 목록
+     * @return 게시글 ID와 {댓글 수 증감분, 조회수 증감분}
+     */
+    private Map<Long, long[]> getPendingShardDeltas(final List<Long> postIds) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(SUM_SHARDS_SQL)
+                                           .setParameter("postIds", postIds)
+                                           .getResultList();
+
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (Object[] row : rows)
+            deltas.put(
+                    ((Number) row[0]).longValue(),
+                    new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()}
+            );
+        return deltas;
+    }
+
     /**
      * 검색어와 일치하는 게시글을 찾는데 사용되는 조건식(FULLTEXT INDEX MATCH() AGAINST() BOOLEAN MODE)입니다.
      *
@@ -173,6 +320,18 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         ).gt(0);
     }
 
+    /**
+     * 커서 이후의 게시글을 찾는 키셋 조건식입니다.
+     *
+     * @param cursor - 마지막으로 조회한 게시글 커서
+     * @return 조건식
+     */
+    private BooleanExpression afterCursor(final PostCursor cursor) {
+        if (cursor == null) return null;
+        return POST.createdAt.lt(cursor.getCreatedAt())
+                             .or(POST.createdAt.eq(cursor.getCreatedAt()).and(POST.id.lt(cursor.getId())));
+    }
+
     /**
      * 정렬 조건을 생성합니다. 기본적으로 최신 게시글부터 조회되며, 조회수, 좋아요 수 기준으로 정렬도 가능합니다.
      *
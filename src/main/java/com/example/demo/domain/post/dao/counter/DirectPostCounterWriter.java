@@ -0,0 +1,72 @@
+package com.example.demo.domain.post.dao.counter;
+
+import com.example.demo.domain.post.dao.PostRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.dao.counter
+ * FileName    : DirectPostCounterWriter
+ * Author      : oldolgol331
+ * Date        : 25. 9. 22.
+ * Description : 게시글 행의 카운터 컬럼을 직접 증감하는 전략
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 22.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.counter.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectPostCounterWriter implements PostCounterWriter {
+
+    private static final String ADD_VIEWS_SQL = "UPDATE posts SET view_count = view_count + ?, "
+                                                + "counters_updated_at = ?, updated_at = updated_at WHERE post_id = ?";
+
+    private final JdbcTemplate   jdbcTemplate;
+    private final PostRepository postRepository;
+
+    public DirectPostCounterWriter(
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate, final PostRepository postRepository
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postRepository = postRepository;
+    }
+
+    /**
+     * 게시글의 댓글 수를 증감하고 카운터 변경 일시를 기록합니다.
+     *
+     * @param postId - 게시글 ID
+     * @param amount - 증감량
+     */
+    @Override
+    public void addComments(final Long postId, final int amount) {
+        postRepository.updateCommentCount(postId, amount, LocalDateTime.now());
+    }
+
+    /**
+     * 게시글들의 조회수를 일괄 증가시키고 카운터 변경 일시를 기록합니다.
+     *
+     * @param viewCountsByPost - 게시글 ID와 증가분
+     */
+    @Override
+    public void addViews(final Map<Long, Long> viewCountsByPost) {
+        if (viewCountsByPost.isEmpty()) return;
+
+        Timestamp      updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = viewCountsByPost.entrySet()
+                                                   .stream()
+                                                   .map(entry -> new Object[]{
+                                                           entry.getValue(), updatedAt, entry.getKey()
+                                                   })
+                                                   .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(ADD_VIEWS_SQL, batchArgs);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.example.demo.domain.post.dao.counter;
+
+import java.util.Map;
+
+/**
+ * PackageName : com.example.demo.domain.post.dao.counter
+ * FileName    : PostCounterWriter
+ * Author      : oldolgol331
+ * Date        : 25. 9. 22.
+ * Description : 게시글의 댓글 수, 조회수 증감을 DB에 기록하는 전략
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 22.    oldolgol331          Initial creation
+ */
+public interface PostCounterWriter {
+
+    void addComments(Long postId, int amount);
+
+    void addViews(Map<Long, Long> viewCountsByPost);
+
+}
@@ -0,0 +1,80 @@
+package com.example.demo.domain.post.dao.counter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.dao.counter
+ * FileName    : ShardedPostCounterWriter
+ * Author      : oldolgol331
+ * Date        : 25. 9. 22.
+ * Description : 게시글별로 여러 개의 카운터 분할 행 중 하나를 임의로 골라 증감분을 누적하는 전략
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 22.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.counter.sharding.enabled", havingValue = "true")
+public class ShardedPostCounterWriter implements PostCounterWriter {
+
+    private static final String ADD_SQL = "INSERT INTO post_counter_shards (post_id, shard, comments, views) "
+                                          + "VALUES (?, ?, ?, ?) "
+                                          + "ON DUPLICATE KEY UPDATE comments = comments + VALUES(comments), "
+                                          + "views = views + VALUES(views)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int          shards;
+
+    public ShardedPostCounterWriter(
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
+            @Value("${post.counter.sharding.shards:16}") final int shards
+    ) {
+        if (shards < 1) throw new IllegalArgumentException("post.counter.sharding.shards must be positive");
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+    }
+
+    /**
+     * 임의의 분할 행에 댓글 수 증감분을 누적합니다. 게시글 행은 잠그지 않으므로 같은 게시글에 대한 동시 쓰기가 분할 수만큼 나뉘어 처리됩니다.
+     *
+     * @param postId - 게시글 ID
+     * @param amount - 증감량
+     */
+    @Override
+    public void addComments(final Long postId, final int amount) {
+        jdbcTemplate.update(ADD_SQL, postId, nextShard(), amount, 0L);
+    }
+
+    /**
+     * 게시글마다 임의의 분할 행에 조회수 증가분을 누적합니다.
+     *
+     * @param viewCountsByPost - 게시글 ID와 증가분
+     */
+    @Override
+    public void addViews(final Map<Long, Long> viewCountsByPost) {
+        if (viewCountsByPost.isEmpty()) return;
+
+        List<Object[]> batchArgs = viewCountsByPost.entrySet()
+                                                   .stream()
+                                                   .map(entry -> new Object[]{
+                                                           entry.getKey(), nextShard(), 0, entry.getValue()
+                                                   })
+                                                   .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(ADD_SQL, batchArgs);
+    }
+
+    // ========================= Private Methods =========================
+
+    private int nextShard() {
+        return ThreadLocalRandom.current().nextInt(shards);
+    }
+
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.querydsl.core.annotations.QueryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.Builder;
 import lombok.Getter;
@@ -96,7 +97,23 @@ public class PostResponse {
                                    .isDeleted(post.getIsDeleted())
                                    .createdAt(post.getCreatedAt())
                                    .updatedAt(post.getUpdatedAt())
-                                   .commentCount(post.getComments().size())
+                                   .commentCount(post.getCommentCount())
+                                   .build();
+        }
+
+        public static PostListResponse from(final PostListResponse response) {
+            if (response == null) return null;
+            return PostListResponse.builder()
+                                   .id(response.getId())
+                                   .writerId(response.getWriterId())
+                                   .writer(response.getWriter())
+                                   .title(response.getTitle())
+                                   .viewCount(response.getViewCount())
+                                   .likeCount(response.getLikeCount())
+                                   .isDeleted(response.getIsDeleted())
+                                   .createdAt(response.getCreatedAt())
+                                   .updatedAt(response.getUpdatedAt())
+                                   .commentCount(response.getCommentCount())
                                    .build();
         }
 
@@ -133,19 +150,20 @@ public class PostResponse {
 
         @Builder
         @QueryProjection
+        @JsonCreator
         public PostDetailResponse(
-                final Long id,
-                final UUID writerId,
-                final String writer,
-                final String title,
-                final String content,
-                final Long viewCount,
-                final Integer likeCount,
-                final Boolean isDeleted,
-                final LocalDateTime createdAt,
-                final LocalDateTime updatedAt,
-                final Integer commentCount,
-                final boolean isWriter
+                @JsonProperty("id") final Long id,
+                @JsonProperty("writerId") final UUID writerId,
+                @JsonProperty("writer") final String writer,
+                @JsonProperty("title") final String title,
+                @JsonProperty("content") final String content,
+                @JsonProperty("viewCount") final Long viewCount,
+                @JsonProperty("likeCount") final Integer likeCount,
+                @JsonProperty("isDeleted") final Boolean isDeleted,
+                @JsonProperty("createdAt") final LocalDateTime createdAt,
+                @JsonProperty("updatedAt") final LocalDateTime updatedAt,
+                @JsonProperty("commentCount") final Integer commentCount,
+                @JsonProperty("isWriter") final boolean isWriter
         ) {
             this.id = id;
             this.writerId = writerId;
@@ -161,6 +179,49 @@ public class PostResponse {
             this.isWriter = isWriter;
         }
 
+        public static PostDetailResponse from(final PostDetailResponse response, final boolean isWriter) {
+            if (response == null) return null;
+            return PostDetailResponse.builder()
+                                     .id(response.getId())
+                                     .writerId(response.getWriterId())
+                                     .writer(response.getWriter())
+                                     .title(response.getTitle())
+                                     .content(response.getContent())
+                                     .viewCount(response.getViewCount())
+                                     .likeCount(response.getLikeCount())
+                                     .isDeleted(response.getIsDeleted())
+                                     .createdAt(response.getCreatedAt())
+                                     .updatedAt(response.getUpdatedAt())
+                                     .commentCount(response.getCommentCount())
+                                     .isWriter(isWriter)
+                                     .build();
+        }
+
+    }
+
+    @Getter
+    @Schema(name = "게시글 커서 목록 정보 응답 DTO")
+    public static class PostCursorResponse {
+
+        @Schema(name = "게시글 목록")
+        private final List<PostListResponse> content;
+        @Schema(name = "조회 개수")
+        private final int                    size;
+        @Schema(name = "다음 목록 존재 여부")
+        private final boolean                hasNext;
+        @Schema(name = "다음 목록 조회 커서")
+        private final String                 nextCursor;
+
+        @Builder
+        public PostCursorResponse(
+                final List<PostListResponse> content, final int size, final boolean hasNext, final String nextCursor
+        ) {
+            this.content = content;
+            this.size = size;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+
     }
 
 }
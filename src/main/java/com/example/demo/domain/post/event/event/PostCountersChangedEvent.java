@@ -0,0 +1,38 @@
+package com.example.demo.domain.post.event.event;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.domain.post.event.event
+ * FileName    : PostCountersChangedEvent
+ * Author      : oldolgol331
+ * Date        : 25. 9. 27.
+ * Description : 게시글 문서 전체를 다시 만들지 않고 카운터 필드만 반영하기 위한 이벤트
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 27.    oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+@Builder(access = PRIVATE)
+public class PostCountersChangedEvent {
+
+    private final Collection<Long> postIds;     // 조회수, 좋아요 수, 댓글 수 중 하나 이상이 바뀐 게시글 ID 목록
+
+    /**
+     * 카운터가 바뀐 게시글의 이벤트를 생성합니다. 바뀐 값은 싣지 않고, 아웃박스 릴레이가 커밋된 값을 DB에서 다시 읽어 반영합니다.
+     *
+     * @param postIds - 게시글 ID 목록
+     * @return 게시글 카운터 변경 이벤트
+     */
+    public static PostCountersChangedEvent of(final Collection<Long> postIds) {
+        return PostCountersChangedEvent.builder().postIds(postIds).build();
+    }
+
+}
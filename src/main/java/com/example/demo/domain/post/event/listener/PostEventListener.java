@@ -1,12 +1,15 @@
 package com.example.demo.domain.post.event.listener;
 
+import static com.example.demo.common.event.type.ChangeType.COUNTERS;
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+import static org.springframework.transaction.event.TransactionPhase.BEFORE_COMMIT;
 
 import com.example.demo.common.event.type.ChangeType;
+import com.example.demo.domain.post.dao.PostOutboxRepository;
 import com.example.demo.domain.post.dao.PostRepository;
 import com.example.demo.domain.post.event.event.PostChangedEvent;
-import com.example.demo.infra.elasticsearch.post.dao.PostSearchRepository;
-import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import com.example.demo.domain.post.event.event.PostCountersChangedEvent;
+import com.example.demo.domain.post.service.PostCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -28,8 +31,37 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class PostEventListener {
 
     private final PostRepository       postRepository;
-    private final PostSearchRepository postSearchRepository;
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostCacheService     postCacheService;
 
+    /**
+     * 게시글 변경을 업무 트랜잭션 안에서 아웃박스에 기록합니다. 게시글과 아웃박스가 함께 커밋되므로 커밋된 변경은 빠짐없이 Elasticsearch에
+     * 전달됩니다.
+     *
+     * @param event - 게시글 변경 이벤트
+     */
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
+    public void recordPostChangeEvent(final PostChangedEvent event) {
+        postOutboxRepository.append(event.getPostId(), event.getChangeType());
+    }
+
+    /**
+     * 게시글 카운터 변경을 업무 트랜잭션 안에서 아웃박스에 기록합니다. 릴레이가 게시글 변경과 같은 순서로 처리하고, 커밋된 카운터 값을 DB에서
+     * 다시 읽어 반영하므로 같은 변경이 다시 전달되어도 결과가 같습니다.
+     *
+     * @param event - 게시글 카운터 변경 이벤트
+     */
+    @TransactionalEventListener(phase = BEFORE_COMMIT)
+    public void recordPostCountersChangedEvent(final PostCountersChangedEvent event) {
+        postOutboxRepository.appendAll(event.getPostIds(), COUNTERS);
+    }
+
+    /**
+     * 커밋된 게시글 변경을 캐시에 반영합니다. Elasticsearch 반영은 아웃박스 릴레이가 담당합니다. 수정된 게시글은 최신 게시글 목록의 요약을
+     * 갱신한 뒤 게시글이 포함된 목록 캐시 페이지를 다시 무효화하여, 커밋과 요약 갱신 사이에 캐시된 이전 요약이 남지 않도록 합니다.
+     *
+     * @param event - 게시글 변경 이벤트
+     */
     @Async
     @TransactionalEventListener(phase = AFTER_COMMIT)
     public void handlePostChangeEvent(final PostChangedEvent event) {
@@ -38,12 +70,16 @@ public class PostEventListener {
 
         switch (changeType) {
             case CREATED:
+                postRepository.getPostSummary(postId).ifPresent(postCacheService::addToFrontPage);
+                postCacheService.adjustTotalCount(1);
+                break;
             case UPDATED:
-                postRepository.findByIdAndIsDeletedFalse(postId)
-                              .ifPresent(post -> postSearchRepository.save(PostDocument.from(post)));
+                postRepository.getPostSummary(postId).ifPresent(postCacheService::updateFrontPage);
+                postCacheService.evictPostListCache(postId);
                 break;
             case DELETED:
-                postSearchRepository.deleteById(postId);
+                postCacheService.removeFromFrontPage(postId);
+                postCacheService.adjustTotalCount(-1);
                 break;
         }
     }
@@ -88,6 +88,9 @@ public class Post extends BaseAuditingEntity {
     @Builder.Default
     private LocalDateTime deletedAt = null;
 
+    @Column(name = "counters_updated_at", insertable = false, updatable = false)
+    private LocalDateTime countersUpdatedAt;
+
     @OneToMany(mappedBy = "post")
     @Builder.Default
     private List<PostLike> postLikes = new ArrayList<>();
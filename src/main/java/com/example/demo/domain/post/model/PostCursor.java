@@ -0,0 +1,75 @@
+package com.example.demo.domain.post.model;
+
+import static com.example.demo.common.response.ErrorCode.POST_INVALID_CURSOR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.PRIVATE;
+
+import com.example.demo.common.error.CustomException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+/**
+ * PackageName : com.example.demo.domain.post.model
+ * FileName    : PostCursor
+ * Author      : oldolgol331
+ * Date        : 25. 9. 12.
+ * Description : 게시글 커서 기반 목록 조회에서 마지막으로 조회한 게시글의 위치(생성 일시, ID)
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 12.    oldolgol331          Initial creation
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public class PostCursor {
+
+    private static final String SEPARATOR = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long          id;
+
+    public static PostCursor of(final LocalDateTime createdAt, final Long id) {
+        return new PostCursor(createdAt, id);
+    }
+
+    /**
+     * 클라이언트에 전달된 커서 문자열을 해석합니다.
+     *
+     * @param cursor - 커서 문자열
+     * @return 게시글 커서, 커서 문자열이 비어 있으면 null
+     */
+    public static PostCursor decode(final String cursor) {
+        if (!StringUtils.hasText(cursor)) return null;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split(SEPARATOR, 2);
+            if (parts.length != 2) throw new CustomException(POST_INVALID_CURSOR);
+            return new PostCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(POST_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 변환합니다.
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((createdAt + SEPARATOR + id).getBytes(UTF_8));
+    }
+
+    /**
+     * Elasticsearch의 search_after에 사용할 생성 일시(UTC epoch millis)를 반환합니다.
+     *
+     * @return 생성 일시 epoch millis
+     */
+    public long getCreatedAtEpochMillis() {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+}
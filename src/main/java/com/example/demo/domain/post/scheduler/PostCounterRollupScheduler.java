@@ -0,0 +1,50 @@
+package com.example.demo.domain.post.scheduler;
+
+import com.example.demo.domain.post.scheduler.processor.PostCounterRollupProcessor;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler
+ * FileName    : PostCounterRollupScheduler
+ * Author      : oldolgol331
+ * Date        : 25. 9. 22.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 22.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.counter.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PostCounterRollupScheduler {
+
+    private static final int    CHUNK_SIZE      = 1000;
+    private static final int    MAX_ROUNDS      = 10;
+    private static final String ROLLUP_LOCK_KEY = "lock:post:counter:rollup";
+
+    private final PostCounterRollupProcessor postCounterRollupProcessor;
+    private final RedissonClient             redissonClient;
+
+    /**
+     * 카운터 분할 행에 누적된 댓글 수, 조회수 증감분을 게시글 행에 합산합니다. 여러 노드 중 하나만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.counter.sharding.rollup-interval-millis:10000}")
+    public void rollupCounters() {
+        RLock lock = redissonClient.getLock(ROLLUP_LOCK_KEY);
+        if (!lock.tryLock()) return;
+
+        try {
+            for (int round = 0; round < MAX_ROUNDS; round++)
+                if (postCounterRollupProcessor.rollup(CHUNK_SIZE) < CHUNK_SIZE) break;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.example.demo.domain.post.scheduler;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_LIKE_DRAINING_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_LIKE_PENDING_KEY;
+
+import com.example.demo.domain.post.scheduler.processor.PostLikeProcessor;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler
+ * FileName    : PostLikeSyncScheduler
+ * Author      : oldolgol331
+ * Date        : 25. 9. 20.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 20.    oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class PostLikeSyncScheduler {
+
+    private static final int    CHUNK_SIZE       = 1000;
+    private static final int    MAX_DRAIN_ROUNDS = 10;
+    private static final String SYNC_LOCK_KEY    = "lock:post:like:sync";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/drain_post_likes.lua"), List.class
+    );
+
+    private final PostLikeProcessor postLikeProcessor;
+    private final RedisRepository   redisRepository;
+    private final RedissonClient    redissonClient;
+
+    /**
+     * Redis에 기록된 좋아요 추가/취소 작업을 DB에 일괄 반영합니다. 반영이 끝나기 전에는 작업을 처리 중 해시에 남겨 두므로, 노드가 중단되어도 다음
+     * 주기에 Redis에 남은 작업으로 DB를 다시 맞춥니다. 여러 노드 중 하나만 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.like.write-behind.flush-interval-millis:1000}")
+    public void syncLikes() {
+        RLock lock = redissonClient.getLock(SYNC_LOCK_KEY);
+        if (!lock.tryLock()) return;
+
+        try {
+            for (int round = 0; round < MAX_DRAIN_ROUNDS; round++) {
+                Map<String, String> operations = drain();
+                if (operations.isEmpty()) break;
+
+                Map<String, String> chunk = new LinkedHashMap<>();
+                for (Map.Entry<String, String> entry : operations.entrySet()) {
+                    chunk.put(entry.getKey(), entry.getValue());
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        postLikeProcessor.processChunk(chunk);
+                        chunk = new LinkedHashMap<>();
+                    }
+                }
+                if (!chunk.isEmpty()) postLikeProcessor.processChunk(chunk);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 처리 중 해시가 비어 있으면 대기 해시를 처리 중 해시로 옮기고, 처리 중 해시의 전체 작업을 반환합니다.
+     *
+     * @return {게시글 ID}:{회원 ID} 필드와 작업
+     */
+    private Map<String, String> drain() {
+        List<?> result = redisRepository.executeScript(
+                DRAIN_SCRIPT, Arrays.asList(POST_LIKE_PENDING_KEY, POST_LIKE_DRAINING_KEY)
+        );
+
+        Map<String, String> operations = new LinkedHashMap<>();
+        if (result == null) return operations;
+        for (int i = 0; i + 1 < result.size(); i += 2)
+            operations.put(String.valueOf(result.get(i)), String.valueOf(result.get(i + 1)));
+        return operations;
+    }
+
+}
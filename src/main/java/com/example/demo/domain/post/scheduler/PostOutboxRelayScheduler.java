@@ -0,0 +1,49 @@
+package com.example.demo.domain.post.scheduler;
+
+import com.example.demo.domain.post.scheduler.processor.PostOutboxRelayProcessor;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler
+ * FileName    : PostOutboxRelayScheduler
+ * Author      : oldolgol331
+ * Date        : 25. 9. 26.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 26.    oldolgol331          Initial creation
+ */
+@Component
+@RequiredArgsConstructor
+public class PostOutboxRelayScheduler {
+
+    private static final int    CHUNK_SIZE     = 500;
+    private static final int    MAX_ROUNDS     = 10;
+    private static final String RELAY_LOCK_KEY = "lock:post:outbox:relay";
+
+    private final PostOutboxRelayProcessor postOutboxRelayProcessor;
+    private final RedissonClient           redissonClient;
+
+    /**
+     * 아웃박스에 기록된 게시글 변경을 Elasticsearch에 전달합니다. 여러 노드 중 하나만 실행하며, 변경은 기록된 순서대로 전달됩니다.
+     */
+    @Scheduled(fixedDelayString = "${post.outbox.relay.poll-interval-millis:500}")
+    public void relayChanges() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+        if (!lock.tryLock()) return;
+
+        try {
+            postOutboxRelayProcessor.recordLag();
+            for (int round = 0; round < MAX_ROUNDS; round++)
+                if (postOutboxRelayProcessor.relay(CHUNK_SIZE) < CHUNK_SIZE) break;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
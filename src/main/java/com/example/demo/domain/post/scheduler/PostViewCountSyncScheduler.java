@@ -1,15 +1,22 @@
 package com.example.demo.domain.post.scheduler;
 
-import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_PATTERN;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_BUCKET_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DIRTY_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DRAINING_KEY;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
 import com.example.demo.domain.post.scheduler.processor.PostViewCountProcessor;
+import com.example.demo.infra.redis.dao.HashBuckets;
 import com.example.demo.infra.redis.dao.RedisRepository;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.Cursor;
-import org.springframework.data.redis.core.ScanOptions;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -28,24 +35,59 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class PostViewCountSyncScheduler {
 
-    private static final int CHUNK_SIZE = 1000;
+    private static final int    CHUNK_SIZE    = 1000;
+    private static final String SYNC_LOCK_KEY = "lock:post:view:sync";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/drain_post_view_counts.lua"), List.class
+    );
 
     private final PostViewCountProcessor postViewCountProcessor;
     private final RedisRepository        redisRepository;
+    private final RedissonClient         redissonClient;
 
+    /**
+     * 조회수가 증가한 게시글의 조회수 증가분을 DB와 Elasticsearch에 반영합니다. 키 공간을 스캔하지 않고 증가 시점에 기록된 집합에서만 꺼내며,
+     * 반영이 끝나기 전에는 증가분을 처리 중 해시에 남겨 두어 실패하면 다음 주기에 다시 반영합니다. 여러 노드 중 하나만 실행합니다.
+     */
     @Scheduled(fixedRate = 1, timeUnit = MINUTES)
     public void syncViewCount() {
-        try (
-                Cursor<String> cursor = redisRepository.scan(
-                        ScanOptions.scanOptions().match(POST_VIEW_COUNT_PATTERN).count(CHUNK_SIZE).build()
-                )
-        ) {
-            while (cursor.hasNext()) {
-                List<String> chunkKeys = new ArrayList<>();
-                for (int i = 0; i < CHUNK_SIZE && cursor.hasNext(); i++) chunkKeys.add(cursor.next());
-                postViewCountProcessor.processChunk(chunkKeys);
-            }
+        RLock lock = redissonClient.getLock(SYNC_LOCK_KEY);
+        if (!lock.tryLock()) return;
+
+        try {
+            Map<String, Long> drainedCounts;
+            do {
+                drainedCounts = drain();
+                if (!drainedCounts.isEmpty()) postViewCountProcessor.processChunk(drainedCounts);
+            } while (drainedCounts.size() >= CHUNK_SIZE);
+        } finally {
+            lock.unlock();
         }
     }
 
+    // ========================= Private Methods =========================
+
+    /**
+     * 조회수가 증가한 게시글 ID를 꺼내 구간 해시의 증가분을 처리 중 해시로 원자적으로 옮기고, 처리 중 해시의 전체 증가분을 반환합니다.
+     *
+     * @return 게시글 ID와 증가분
+     */
+    private Map<String, Long> drain() {
+        List<?> result = redisRepository.executeScript(
+                DRAIN_SCRIPT,
+                Arrays.asList(POST_VIEW_DIRTY_KEY, POST_VIEW_DRAINING_KEY),
+                CHUNK_SIZE,
+                String.format(POST_VIEW_COUNT_BUCKET_KEY, ""),
+                HashBuckets.BUCKET_SIZE
+        );
+
+        Map<String, Long> drainedCounts = new LinkedHashMap<>();
+        if (result == null) return drainedCounts;
+        for (int i = 0; i + 1 < result.size(); i += 2)
+            drainedCounts.put(String.valueOf(result.get(i)), Long.parseLong(String.valueOf(result.get(i + 1))));
+        return drainedCounts;
+    }
+
 }
@@ -0,0 +1,75 @@
+package com.example.demo.domain.post.scheduler.processor;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler.processor
+ * FileName    : PostCounterRollupProcessor
+ * Author      : oldolgol331
+ * Date        : 25. 9. 22.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 22.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.counter.sharding.enabled", havingValue = "true")
+public class PostCounterRollupProcessor {
+
+    private static final String SELECT_SHARDS_SQL = "SELECT post_id, shard, comments, views FROM post_counter_shards "
+                                                    + "ORDER BY post_id, shard LIMIT ? FOR UPDATE";
+    private static final String DELETE_SHARD_SQL  = "DELETE FROM post_counter_shards WHERE post_id = ? AND shard = ?";
+    private static final String UPDATE_POST_SQL   = "UPDATE posts SET comment_count = comment_count + ?, "
+                                                    + "view_count = view_count + ?, counters_updated_at = ?, "
+                                                    + "updated_at = updated_at WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostCounterRollupProcessor(@Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 카운터 분할 행을 잠근 채 읽어 게시글별로 합산한 뒤 게시글 행에 반영하고, 반영한 분할 행을 삭제합니다. 분할 행은 커밋까지 잠겨 있으므로 그
+     * 사이의 증감분은 잠금이 풀린 뒤 새 분할 행에 누적되어 다음 주기에 반영됩니다.
+     *
+     * @param limit - 한 번에 반영할 최대 분할 행 수
+     * @return 반영한 분할 행 수
+     */
+    @Transactional
+    public int rollup(final int limit) {
+        List<Object[]>    shardKeys = new ArrayList<>();
+        Map<Long, long[]> deltas    = new TreeMap<>();
+        jdbcTemplate.query(SELECT_SHARDS_SQL, rs -> {
+            long postId = rs.getLong("post_id");
+            shardKeys.add(new Object[]{postId, rs.getInt("shard")});
+            long[] delta = deltas.computeIfAbsent(postId, id -> new long[2]);
+            delta[0] += rs.getLong("comments");
+            delta[1] += rs.getLong("views");
+        }, limit);
+        if (shardKeys.isEmpty()) return 0;
+
+        jdbcTemplate.batchUpdate(DELETE_SHARD_SQL, shardKeys);
+
+        Timestamp      updatedAt   = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> postUpdates = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) postUpdates.add(new Object[]{delta[0], delta[1], updatedAt, postId});
+        });
+        if (!postUpdates.isEmpty()) jdbcTemplate.batchUpdate(UPDATE_POST_SQL, postUpdates);
+
+        return shardKeys.size();
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.example.demo.domain.post.scheduler.processor;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_LIKE_DRAINING_KEY;
+
+import com.example.demo.domain.post.event.event.PostCountersChangedEvent;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler.processor
+ * FileName    : PostLikeProcessor
+ * Author      : oldolgol331
+ * Date        : 25. 9. 20.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 20.    oldolgol331          Initial creation
+ */
+@Component
+public class PostLikeProcessor {
+
+    private static final String INSERT_LIKE_SQL       = "INSERT IGNORE INTO post_likes (member_id, post_id) VALUES (?, ?)";
+    private static final String DELETE_LIKE_SQL       = "DELETE FROM post_likes WHERE member_id = ? AND post_id = ?";
+    private static final String UPDATE_LIKE_COUNT_SQL = "UPDATE posts SET like_count = "
+                                                        + "(SELECT COUNT(*) FROM post_likes WHERE post_id = ?), "
+                                                        + "counters_updated_at = ?, updated_at = updated_at "
+                                                        + "WHERE post_id = ?";
+
+    private final JdbcTemplate              jdbcTemplate;
+    private final RedisRepository           redisRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostLikeProcessor(
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
+            final RedisRepository redisRepository,
+            final ApplicationEventPublisher eventPublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisRepository = redisRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 처리 중 해시로 옮겨진 좋아요 추가/취소 작업을 DB에 일괄 반영하고, 변경된 게시글의 좋아요 수를 다시 계산합니다. 모든 작업이 멱등하므로
+     * 커밋 전에 실패해 다음 주기에 다시 반영해도 결과가 같습니다. 커밋 이후 처리 중 해시에서 제거합니다. 변경된 게시글은 같은 트랜잭션에서
+     * 아웃박스에 기록되어, 릴레이가 Elasticsearch 문서의 카운터 필드에만 반영합니다.
+     *
+     * @param operations - {게시글 ID}:{회원 ID} 필드와 작업(1: 추가, 0: 취소)
+     */
+    @Transactional
+    public void processChunk(final Map<String, String> operations) {
+        if (operations.isEmpty()) return;
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<Long>      postIds = new LinkedHashSet<>();
+        operations.forEach((field, operation) -> {
+            String[] parts    = field.split(":", 2);
+            Long     postId   = Long.parseLong(parts[0]);
+            byte[]   memberId = toBytes(UUID.fromString(parts[1]));
+            if ("1".equals(operation)) inserts.add(new Object[]{memberId, postId});
+            else deletes.add(new Object[]{memberId, postId});
+            postIds.add(postId);
+        });
+
+        if (!inserts.isEmpty()) jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, inserts);
+        if (!deletes.isEmpty()) jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, deletes);
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                UPDATE_LIKE_COUNT_SQL,
+                postIds.stream().map(postId -> new Object[]{postId, updatedAt, postId}).collect(Collectors.toList())
+        );
+
+        registerAfterCommitTasks(new ArrayList<>(operations.keySet()));
+        eventPublisher.publishEvent(PostCountersChangedEvent.of(postIds));
+    }
+
+    // ========================= Private Methods =========================
+
+    private void registerAfterCommitTasks(final List<String> processedFields) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisRepository.deleteHash(POST_LIKE_DRAINING_KEY, processedFields.toArray());
+            }
+        });
+    }
+
+    /**
+     * 회원 ID를 BINARY(16) 컬럼에 저장되는 형식(상위 8바이트, 하위 8바이트 순)으로 변환합니다.
+     *
+     * @param uuid - 회원 ID
+     * @return 16바이트 배열
+     */
+    private byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(16)
+                         .putLong(uuid.getMostSignificantBits())
+                         .putLong(uuid.getLeastSignificantBits())
+                         .array();
+    }
+
+}
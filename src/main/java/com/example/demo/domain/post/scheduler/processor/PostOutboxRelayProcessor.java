@@ -0,0 +1,206 @@
+package com.example.demo.domain.post.scheduler.processor;
+
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
+import static com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper.FROM_CLAUSE;
+import static com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper.SELECT_CLAUSE;
+
+import com.example.demo.common.event.type.ChangeType;
+import com.example.demo.domain.post.dao.PostOutboxRepository;
+import com.example.demo.domain.post.dao.PostOutboxRepository.PostOutboxRecord;
+import com.example.demo.domain.post.dao.PostRepository;
+import com.example.demo.domain.post.model.PostDto;
+import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
+import com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper;
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import io.micrometer.core.instrument.Metrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.DocWriteRequest.OpType;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler.processor
+ * FileName    : PostOutboxRelayProcessor
+ * Author      : oldolgol331
+ * Date        : 25. 9. 26.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 26.    oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class PostOutboxRelayProcessor {
+
+    private static final String SELECT_POSTS_SQL = SELECT_CLAUSE + " " + FROM_CLAUSE
+                                                   + " WHERE P.is_deleted = false AND P.post_id IN (%s)";
+    private static final String METRIC_LAG       = "post.outbox.lag.millis";
+    private static final String METRIC_RELAYED   = "post.outbox.relayed";
+    private static final int    RETRY_ON_CONFLICT = 3;
+
+    private final PostOutboxRepository   postOutboxRepository;
+    private final PostRepository         postRepository;
+    private final JdbcTemplate           jdbcTemplate;
+    private final RestHighLevelClient    restHighLevelClient;
+    private final ElasticsearchConverter elasticsearchConverter;
+    private final AtomicLong             lagMillis;
+
+    public PostOutboxRelayProcessor(
+            final PostOutboxRepository postOutboxRepository,
+            final PostRepository postRepository,
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
+            final RestHighLevelClient restHighLevelClient,
+            final ElasticsearchRestTemplate elasticsearchRestTemplate
+    ) {
+        this.postOutboxRepository = postOutboxRepository;
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.restHighLevelClient = restHighLevelClient;
+        this.elasticsearchConverter = elasticsearchRestTemplate.getElasticsearchConverter();
+        this.lagMillis = Metrics.gauge(METRIC_LAG, new AtomicLong());
+    }
+
+    /**
+     * 아웃박스에서 가장 오래된 변경이 기록된 뒤 지난 시간을 지연 지표에 기록합니다.
+     */
+    public void recordLag() {
+        long lag = postOutboxRepository.findOldestCreatedAt()
+                                       .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                                       .orElse(0L);
+        lagMillis.set(Math.max(0, lag));
+    }
+
+    /**
+     * 아웃박스의 변경을 최대 limit개 읽어 한 번의 벌크 요청으로 Elasticsearch에 반영한 뒤, 반영한 변경을 아웃박스에서 삭제합니다. 같은 게시글의
+     * 변경은 하나로 합치고 게시글의 현재 상태를 DB에서 다시 읽어 색인하므로, 실패 후 같은 변경이 다시 전달되어도 결과가 같습니다. 카운터만 바뀐
+     * 게시글은 커밋된 조회수, 좋아요 수, 댓글 수를 부분 문서로 보내 문서 전체를 다시 색인하지 않습니다. 벌크 요청에 실패한 문서가 있으면
+     * 아웃박스를 지우지 않고 예외를 던져 다음 주기에 다시 시도합니다.
+     *
+     * @param limit - 한 번에 반영할 최대 변경 수
+     * @return 읽은 변경 수
+     */
+    public int relay(final int limit) {
+        List<PostOutboxRecord> records = postOutboxRepository.findBatch(limit);
+        if (records.isEmpty()) return 0;
+
+        // 카운터 변경은 문서 전체를 다시 색인하는 다른 변경에 포함되므로, 카운터만 바뀐 게시글에만 남깁니다.
+        Map<Long, ChangeType> latestChanges = new LinkedHashMap<>();
+        records.forEach(record -> latestChanges.merge(
+                record.getPostId(),
+                record.getChangeType(),
+                (previous, next) -> next == ChangeType.COUNTERS ? previous : next
+        ));
+
+        List<Long>              postIdsToIndex = findPostIds(latestChanges, ChangeType.CREATED, ChangeType.UPDATED);
+        List<Long>              postIdsToCount = findPostIds(latestChanges, ChangeType.COUNTERS);
+        Map<Long, PostDocument> documents      = findDocuments(postIdsToIndex);
+        Map<Long, PostCountDto> counts         = postRepository.getCounts(postIdsToCount);
+
+        BulkRequest bulkRequest = new BulkRequest();
+        latestChanges.forEach((postId, changeType) -> {
+            if (changeType == ChangeType.COUNTERS) {
+                PostCountDto count = counts.get(postId);
+                if (count != null)
+                    bulkRequest.add(new UpdateRequest(POST_WRITE_ALIAS, String.valueOf(postId))
+                                            .doc(toCounterFields(count))
+                                            .retryOnConflict(RETRY_ON_CONFLICT));
+                return;
+            }
+
+            PostDocument document = documents.get(postId);
+            if (document == null) {
+                bulkRequest.add(new DeleteRequest(POST_WRITE_ALIAS, String.valueOf(postId)));
+            } else {
+                String source = elasticsearchConverter.mapObject(document).toJson();
+                bulkRequest.add(new IndexRequest(POST_WRITE_ALIAS).id(document.getId())
+                                                                  .source(source, XContentType.JSON));
+            }
+        });
+
+        if (bulkRequest.numberOfActions() > 0) sendBulk(bulkRequest);
+
+        postOutboxRepository.deleteAll(records.stream().map(PostOutboxRecord::getId).collect(Collectors.toList()));
+        Metrics.counter(METRIC_RELAYED).increment(records.size());
+        return records.size();
+    }
+
+    // ========================= Private Methods =========================
+
+    private List<Long> findPostIds(final Map<Long, ChangeType> latestChanges, final ChangeType... changeTypes) {
+        List<ChangeType> targets = Arrays.asList(changeTypes);
+        return latestChanges.entrySet()
+                            .stream()
+                            .filter(entry -> targets.contains(entry.getValue()))
+                            .map(Map.Entry::getKey)
+                            .collect(Collectors.toList());
+    }
+
+    private Map<Long, PostDocument> findDocuments(final List<Long> postIds) {
+        if (postIds.isEmpty()) return Collections.emptyMap();
+
+        String sql = String.format(SELECT_POSTS_SQL, String.join(",", Collections.nCopies(postIds.size(), "?")));
+        return jdbcTemplate.query(sql, new PostDtoRowMapper(), postIds.toArray())
+                           .stream()
+                           .collect(Collectors.toMap(PostDto::getId, PostDocument::from));
+    }
+
+    private Map<String, Object> toCounterFields(final PostCountDto count) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("viewCount", count.getViewCount());
+        fields.put("likeCount", count.getLikeCount());
+        fields.put("commentCount", count.getCommentCount());
+        return fields;
+    }
+
+    /**
+     * 벌크 요청을 보내고 실패한 문서가 있으면 예외를 던집니다. 아직 색인되지 않은 문서에 대한 카운터 부분 업데이트 실패는 무시합니다. 그 문서는
+     * 생성 변경이나 재색인이 DB의 현재 값으로 색인합니다.
+     *
+     * @param bulkRequest - 벌크 요청
+     */
+    private void sendBulk(final BulkRequest bulkRequest) {
+        BulkResponse response;
+        try {
+            response = restHighLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        boolean failed = Arrays.stream(response.getItems())
+                               .anyMatch(item -> item.isFailed() && !isMissingDocumentUpdate(item));
+        if (failed) {
+            log.error("Failed to relay post changes to '{}'", POST_WRITE_ALIAS);
+            throw new IllegalStateException("Post outbox relay failed: " + response.buildFailureMessage());
+        }
+    }
+
+    private boolean isMissingDocumentUpdate(final BulkItemResponse item) {
+        return item.getOpType() == OpType.UPDATE && item.status() == RestStatus.NOT_FOUND;
+    }
+
+}
@@ -1,17 +1,13 @@
 package com.example.demo.domain.post.scheduler.processor;
 
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DRAINING_KEY;
+
+import com.example.demo.domain.post.dao.counter.PostCounterWriter;
+import com.example.demo.domain.post.event.event.PostCountersChangedEvent;
 import com.example.demo.infra.redis.dao.RedisRepository;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.UpdateQuery;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -31,85 +27,69 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 @Component
 public class PostViewCountProcessor {
 
-    private final JdbcTemplate              jdbcTemplate;
+    private final PostCounterWriter         postCounterWriter;
     private final RedisRepository           redisRepository;
-    private final ElasticsearchRestTemplate elasticsearchRestTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public PostViewCountProcessor(
-            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
+            final PostCounterWriter postCounterWriter,
             final RedisRepository redisRepository,
-            final ElasticsearchRestTemplate elasticsearchRestTemplate
+            final ApplicationEventPublisher eventPublisher
     ) {
-        this.jdbcTemplate = jdbcTemplate;
+        this.postCounterWriter = postCounterWriter;
         this.redisRepository = redisRepository;
-        this.elasticsearchRestTemplate = elasticsearchRestTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 처리 중 해시로 옮겨진 조회수 증가분을 DB에 반영합니다. 처리 중 해시의 필드는 커밋 직전에 제거하고 롤백되면 다시 넣으므로, 커밋된 증가분이
+     * 다음 주기에 한 번 더 반영되지 않습니다. 커밋 전에 실패하면 증가분이 처리 중 해시에 남아 다음 주기에 다시 반영됩니다. 변경된 게시글은 같은
+     * 트랜잭션에서 아웃박스에 기록되어 Elasticsearch에 반영됩니다.
+     *
+     * @param drainedCounts - 게시글 ID와 증가분
+     */
     @Transactional
-    public void processChunk(final List<String> chunkKeys) {
-        if (chunkKeys.isEmpty()) return;
-
-        List<String> counts = redisRepository.multiGetValues(chunkKeys, String.class);
+    public void processChunk(final Map<String, Long> drainedCounts) {
+        if (drainedCounts.isEmpty()) return;
 
         Map<Long, Long> postIdToViewCountMap = new HashMap<>();
-        IntStream.range(0, chunkKeys.size()).forEach(i -> {
-            String key      = chunkKeys.get(i);
-            String countStr = counts.get(i);
-            if (countStr != null) {
-                long postId = Long.parseLong(key.split(":")[3]);
-                long count  = Long.parseLong(countStr);
-                postIdToViewCountMap.put(postId, count);
-            }
+        drainedCounts.forEach((key, count) -> {
+            if (count > 0) postIdToViewCountMap.merge(Long.parseLong(key), count, Long::sum);
         });
 
-        if (postIdToViewCountMap.isEmpty()) {
-            redisRepository.deleteData(chunkKeys);
-            return;
-        }
-
-        List<Object[]> batchArgs = postIdToViewCountMap.entrySet()
-                                                       .stream()
-                                                       .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
-                                                       .collect(Collectors.toList());
-        jdbcTemplate.batchUpdate("UPDATE posts SET view_count = view_count + ? WHERE post_id = ?", batchArgs);
+        postCounterWriter.addViews(postIdToViewCountMap);
 
-        registerAfterCommitTasks(chunkKeys, postIdToViewCountMap);
+        registerDrainedFieldsRemoval(new HashMap<>(drainedCounts));
+        if (!postIdToViewCountMap.isEmpty())
+            eventPublisher.publishEvent(PostCountersChangedEvent.of(postIdToViewCountMap.keySet()));
     }
 
     // ========================= Private Methods =========================
 
-    private void registerAfterCommitTasks(final List<String> keysToDelete, final Map<Long, Long> countsToUpdate) {
+    /**
+     * 커밋 직전에 반영한 필드를 처리 중 해시에서 제거하고, 제거한 뒤 롤백되면 증가분을 다시 넣어 다음 주기에 반영되도록 합니다. 제거에 실패하면
+     * 트랜잭션이 롤백되어 필드가 그대로 남습니다. 커밋 결과를 알 수 없는 경우에는 중복 반영을 피하기 위해 다시 넣지 않습니다.
+     *
+     * @param drainedCounts - 게시글 ID와 증가분
+     */
+    private void registerDrainedFieldsRemoval(final Map<String, Long> drainedCounts) {
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean removed;
+
             @Override
-            public void afterCommit() {
-                updateElasticsearch(countsToUpdate);
-                redisRepository.deleteData(keysToDelete);
+            public void beforeCommit(final boolean readOnly) {
+                redisRepository.deleteHash(POST_VIEW_DRAINING_KEY, drainedCounts.keySet().toArray());
+                removed = true;
             }
-        });
-    }
 
-    private void updateElasticsearch(final Map<Long, Long> countsToUpdate) {
-        if (countsToUpdate.isEmpty()) return;
-
-        List<UpdateQuery> updateQueries = countsToUpdate.entrySet()
-                                                        .stream()
-                                                        .map(entry -> {
-                                                            long postId             = entry.getKey();
-                                                            long viewCountIncrement = entry.getValue();
-
-                                                            String script = "ctx._source.viewCount += params.count";
-                                                            Map<String, Object> params = Collections.singletonMap(
-                                                                    "count", viewCountIncrement
-                                                            );
-
-                                                            return UpdateQuery.builder(String.valueOf(postId))
-                                                                              .withScript(script)
-                                                                              .withParams(params)
-                                                                              .build();
-                                                        })
-                                                        .collect(Collectors.toList());
-
-        elasticsearchRestTemplate.bulkUpdate(updateQueries, IndexCoordinates.of("posts"));
+            @Override
+            public void afterCompletion(final int status) {
+                if (!removed || status != STATUS_ROLLED_BACK) return;
+                drainedCounts.forEach(
+                        (key, count) -> redisRepository.incrementHash(POST_VIEW_DRAINING_KEY, key, count)
+                );
+            }
+        });
     }
 
 }
@@ -15,4 +15,6 @@ public interface PostBatchJobService {
 
     void runPostSyncJob();
 
+    void runPostIndexRebuildJob();
+
 }
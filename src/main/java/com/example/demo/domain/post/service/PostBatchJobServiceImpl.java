@@ -9,9 +9,13 @@ import com.example.demo.common.jobmeta.model.JobMetaData;
 import java.time.LocalDateTime;
 import java.util.Date;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
@@ -33,22 +37,43 @@ import org.springframework.stereotype.Service;
 public class PostBatchJobServiceImpl implements PostBatchJobService {
 
     private final JobLauncher           jobLauncher;
+    private final JobExplorer           jobExplorer;
     private final Job                   postSyncJob;
+    private final Job                   postIndexRebuildJob;
     private final JobMetaDataRepository jobMetaDataRepository;
 
     public PostBatchJobServiceImpl(
             final JobLauncher jobLauncher,
+            final JobExplorer jobExplorer,
             @Qualifier("postDbToEsMigrationJob") final Job postSyncJob,
+            @Qualifier("postIndexRebuildJob") final Job postIndexRebuildJob,
             final JobMetaDataRepository jobMetaDataRepository
     ) {
         this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
         this.postSyncJob = postSyncJob;
+        this.postIndexRebuildJob = postIndexRebuildJob;
         this.jobMetaDataRepository = jobMetaDataRepository;
     }
 
+    /**
+     * DB → Elasticsearch 동기화 잡을 실행합니다. 직전 실행이 실패했거나 중단되었으면 같은 파라미터로 다시 실행해, 완료되지 않은 파티션만 마지막
+     * 커밋 지점부터 이어서 처리합니다.
+     */
     @Async
     @Override
     public void runPostSyncJob() {
+        JobExecution failedExecution = findRestartableExecution(postSyncJob);
+        if (failedExecution != null) {
+            try {
+                log.info("Restarting DB to ES sync job. executionId: {}", failedExecution.getId());
+                jobLauncher.run(postSyncJob, failedExecution.getJobParameters());
+            } catch (Exception e) {
+                log.error("DB to ES sync job restart failed", e);
+            }
+            return;
+        }
+
         JobMetaData jobMetaData = jobMetaDataRepository.findByJobName(postSyncJob.getName())
                                                        .orElseThrow(() -> new CustomException(JOB_METADATA_NOT_FOUND));
         LocalDateTime lastIndexedAt = jobMetaData.getLastSuccessfulRunTime();
@@ -64,4 +89,37 @@ public class PostBatchJobServiceImpl implements PostBatchJobService {
         }
     }
 
+    /**
+     * 새 버전 인덱스를 만들어 전체 게시글을 적재한 뒤 별칭을 옮기는 재색인 잡을 실행합니다. 직전 실행이 실패했거나 중단되었으면 새 인덱스를 다시
+     * 만들지 않고 실패한 단계부터 이어서 처리합니다.
+     */
+    @Async
+    @Override
+    public void runPostIndexRebuildJob() {
+        try {
+            JobExecution failedExecution = findRestartableExecution(postIndexRebuildJob);
+            JobParameters jobParameters = failedExecution != null
+                                          ? failedExecution.getJobParameters()
+                                          : new JobParametersBuilder().addDate("requestedAt", new Date())
+                                                                      .toJobParameters();
+            log.info("Post index rebuild job started. restart: {}", failedExecution != null);
+            jobLauncher.run(postIndexRebuildJob, jobParameters);
+        } catch (Exception e) {
+            log.error("Post index rebuild job failed", e);
+        }
+    }
+
+    // ========================= Private Methods =========================
+
+    private JobExecution findRestartableExecution(final Job job) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(job.getName());
+        if (lastInstance == null) return null;
+
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null) return null;
+
+        BatchStatus status = lastExecution.getStatus();
+        return status == BatchStatus.FAILED || status == BatchStatus.STOPPED ? lastExecution : null;
+    }
+
 }
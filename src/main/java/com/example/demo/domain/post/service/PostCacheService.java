@@ -1,7 +1,9 @@
 package com.example.demo.domain.post.service;
 
+import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import java.util.List;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 /**
@@ -19,8 +21,28 @@ public interface PostCacheService {
 
     List<PostListResponse> getPosts(String keyword, Pageable pageable);
 
+    Page<PostListResponse> searchPosts(String keyword, Pageable pageable);
+
+    boolean isCacheablePage(String keyword, Pageable pageable);
+
     long getTotalCount(String keyword);
 
+    void adjustTotalCount(long delta);
+
     void evictPostListCache();
 
+    void evictPostListCache(Long postId);
+
+    long getPostDetailVersion(Long postId);
+
+    PostDetailResponse getPostDetail(Long postId, long version);
+
+    void evictPostDetailCache(Long postId);
+
+    void addToFrontPage(PostListResponse response);
+
+    void updateFrontPage(PostListResponse response);
+
+    void removeFromFrontPage(Long postId);
+
 }
@@ -1,14 +1,43 @@
 package com.example.demo.domain.post.service;
 
+import static com.example.demo.domain.post.constant.PostConst.POST_DETAIL_VERSION_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_FRONT_PAGE_IDS_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_FRONT_PAGE_READY_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_FRONT_PAGE_REBUILD_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_FRONT_PAGE_SUMMARIES_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_KEYWORD_COUNT_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_LIST_PAGES_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_TOTAL_COUNT_KEY;
+
+import com.example.demo.domain.post.dao.PostRepository;
+import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import com.example.demo.infra.elasticsearch.post.dao.PostSearchRepository;
+import com.example.demo.infra.redis.config.ListKeyGenerator;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * PackageName : com.example.demo.domain.post.service
@@ -22,46 +51,252 @@ import org.springframework.stereotype.Service;
  * 25. 9. 1.     oldolgol331          Initial creation
  */
 @Service
-@RequiredArgsConstructor
 public class PostCacheServiceImpl implements PostCacheService {
 
+    private static final String   POST_LIST_CACHE_NAME    = "posts";
+    private static final Duration POST_LIST_PAGES_TTL     = Duration.ofMinutes(10);
+    private static final Duration POST_DETAIL_VERSION_TTL = Duration.ofDays(1);
+    private static final Duration POST_TOTAL_COUNT_TTL    = Duration.ofHours(1);
+    private static final Duration POST_KEYWORD_COUNT_TTL  = Duration.ofMinutes(1);
+    private static final Duration FRONT_PAGE_READY_TTL    = Duration.ofMinutes(10);
+    private static final Duration FRONT_PAGE_DATA_TTL     = Duration.ofMinutes(20);
+    private static final Duration FRONT_PAGE_REBUILD_TTL  = Duration.ofSeconds(30);
+
     private final PostSearchRepository postSearchRepository;
+    private final PostRepository       postRepository;
+    private final RedisRepository      redisRepository;
+    private final RedisRepository      compactRedisRepository;
+    private final ListKeyGenerator     listKeyGenerator;
+    private final CacheManager         cacheManager;
+
+    @Value("${post.list.keyword-count.track-total-hits-up-to:0}")
+    private int keywordCountTrackTotalHitsUpTo;
+    @Value("${post.list.front-page.capacity:200}")
+    private int frontPageCapacity;
+
+    public PostCacheServiceImpl(
+            final PostSearchRepository postSearchRepository,
+            final PostRepository postRepository,
+            final RedisRepository redisRepository,
+            @Qualifier("compactRedisRepository") final RedisRepository compactRedisRepository,
+            final ListKeyGenerator listKeyGenerator,
+            final CacheManager cacheManager
+    ) {
+        this.postSearchRepository = postSearchRepository;
+        this.postRepository = postRepository;
+        this.redisRepository = redisRepository;
+        this.compactRedisRepository = compactRedisRepository;
+        this.listKeyGenerator = listKeyGenerator;
+        this.cacheManager = cacheManager;
+    }
 
     /**
-     * 게시글 목록을 조회합니다.
+     * 게시글 목록을 조회합니다. 캐시가 비어 있을 때 같은 페이지에 대한 동시 요청은 하나의 조회 결과를 공유하며, Redis에 유지되는 최신 게시글 목록에
+     * 포함된 페이지는 Elasticsearch를 조회하지 않고 적재합니다. 캐시 키는 한 번만 만들어 캐시 조회와 게시글별 목록 캐시 키 기록에 함께
+     * 사용하므로, 그 사이에 세대 번호가 바뀌어도 실제로 적재된 키가 기록됩니다.
      *
      * @param keyword  - 검색어
      * @param pageable - 페이징 정보
      * @return 게시글 페이징 목록 응답 DTO
      */
-    @Cacheable(
-            value = "posts",
-            //key = "#pageable.pageNumber",
-            keyGenerator = "listKeyGenerator",
-            condition = "(#keyword == null or #keyword.trim().empty)" +
-                        " and #pageable.pageNumber < 10" +
-                        " and #root.target.isDefaultSort(#pageable)"
-    )
     @Override
     public List<PostListResponse> getPosts(final String keyword, final Pageable pageable) {
-        return postSearchRepository.getPosts(keyword, pageable).getContent();
+        Cache cache = cacheManager.getCache(POST_LIST_CACHE_NAME);
+        if (cache == null || !isCacheablePage(keyword, pageable))
+            return postSearchRepository.getPosts(keyword, pageable).getContent();
+
+        String cacheKey = listKeyGenerator.generate(getClass(), "getPosts", keyword, pageable);
+        return cache.get(cacheKey, () -> {
+            List<PostListResponse> content = getFrontPagePosts(pageable);
+            if (content == null) content = postSearchRepository.getPosts(keyword, pageable).getContent();
+            registerListPage(cacheKey, content);
+            return content;
+        });
+    }
+
+    /**
+     * 캐시하지 않는 게시글 목록을 조회합니다. 목록과 전체 게시글 수를 한 번의 Elasticsearch 요청으로 조회하며, 검색어가 있고 근사치 설정이 있으면
+     * 전체 게시글 수는 설정된 수까지만 정확히 셉니다.
+     *
+     * @param keyword  - 검색어
+     * @param pageable - 페이징 정보
+     * @return 게시글 페이징 목록 응답 DTO
+     */
+    @Override
+    public Page<PostListResponse> searchPosts(final String keyword, final Pageable pageable) {
+        if (keyword != null && !keyword.trim().isEmpty() && keywordCountTrackTotalHitsUpTo > 0)
+            return postSearchRepository.getPosts(keyword, pageable, keywordCountTrackTotalHitsUpTo);
+        return postSearchRepository.getPosts(keyword, pageable);
     }
 
     /**
-     * 게시글 목록 전체 수를 조회합니다.
+     * 게시글 목록 전체 수를 조회합니다. 검색어가 없을 경우 Redis에 유지되는 전체 게시글 수를 반환하고, 없으면 Elasticsearch에서 조회해
+     * 기록합니다. 검색어가 있을 경우 짧은 TTL로 캐시하며, 근사치 설정이 있으면 설정된 수까지만 정확히 셉니다.
      *
      * @param keyword - 검색어
      * @return 전체 게시글 수
      */
     @Override
     public long getTotalCount(final String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) return postSearchRepository.count();
-        return postSearchRepository.countByKeyword(keyword);
+        if (keyword == null || keyword.trim().isEmpty()) {
+            Optional<Long> opTotalCount = redisRepository.getValue(POST_TOTAL_COUNT_KEY, Long.class);
+            if (opTotalCount.isPresent()) return opTotalCount.get();
+
+            long totalCount = postSearchRepository.count();
+            redisRepository.setValueIfAbsent(POST_TOTAL_COUNT_KEY, totalCount, POST_TOTAL_COUNT_TTL);
+            return totalCount;
+        }
+
+        String         countKey       = String.format(POST_KEYWORD_COUNT_KEY_PREFIX, keyword.trim());
+        Optional<Long> opKeywordCount = redisRepository.getValue(countKey, Long.class);
+        if (opKeywordCount.isPresent()) return opKeywordCount.get();
+
+        long keywordCount = keywordCountTrackTotalHitsUpTo > 0
+                            ? postSearchRepository.countByKeyword(keyword, keywordCountTrackTotalHitsUpTo)
+                            : postSearchRepository.countByKeyword(keyword);
+        redisRepository.setValue(countKey, keywordCount, POST_KEYWORD_COUNT_TTL);
+        return keywordCount;
+    }
+
+    /**
+     * Redis에 유지되는 전체 게시글 수를 변경합니다. 기록된 값이 없었던 경우 잘못된 값이 남지 않도록 삭제해, 다음 조회 시 Elasticsearch에서 다시
+     * 조회하도록 합니다.
+     *
+     * @param delta - 변경할 게시글 수
+     */
+    @Override
+    public void adjustTotalCount(final long delta) {
+        Long totalCount = redisRepository.increment(POST_TOTAL_COUNT_KEY, delta);
+        if (totalCount == null || totalCount == delta) redisRepository.deleteData(POST_TOTAL_COUNT_KEY);
     }
 
-    @CacheEvict(value = "posts", allEntries = true)
+    /**
+     * 게시글 목록 캐시의 세대 번호를 증가시켜 모든 페이지를 무효화합니다. 키 전체를 스캔해 삭제하지 않고 INCR 한 번으로 처리하며, 이전 세대의
+     * 캐시는 TTL에 의해 만료됩니다. 트랜잭션 안에서 호출될 경우 커밋 이후에 증가시킵니다.
+     */
     @Override
     public void evictPostListCache() {
+        runAfterCommit(() -> listKeyGenerator.increaseGeneration(getClass()));
+    }
+
+    /**
+     * 특정 게시글이 포함된 게시글 목록 캐시 페이지만 무효화합니다. 게시글의 순서가 바뀌지 않는 수정에 사용합니다. 캐시 매니저가 트랜잭션을
+     * 인식하므로 트랜잭션 안에서 호출될 경우 커밋 이후에 삭제됩니다.
+     *
+     * @param postId - 게시글 ID
+     */
+    @Override
+    public void evictPostListCache(final Long postId) {
+        Set<Object> cacheKeys = redisRepository.getSetMembers(String.format(POST_LIST_PAGES_KEY_PREFIX, postId));
+        if (cacheKeys == null || cacheKeys.isEmpty()) return;
+
+        Cache cache = cacheManager.getCache(POST_LIST_CACHE_NAME);
+        if (cache != null) cacheKeys.forEach(cache::evict);
+    }
+
+    /**
+     * 게시글 상세 캐시의 현재 버전을 조회합니다. 버전이 기록되지 않은 게시글은 0을 반환합니다.
+     *
+     * @param postId - 게시글 ID
+     * @return 게시글 상세 캐시 버전
+     */
+    @Override
+    public long getPostDetailVersion(final Long postId) {
+        return redisRepository.getValue(String.format(POST_DETAIL_VERSION_KEY_PREFIX, postId), Long.class).orElse(0L);
+    }
+
+    /**
+     * 게시글 상세 정보를 조회합니다. 캐시 키에 버전이 포함되므로 버전이 증가하면 이전 캐시는 더 이상 조회되지 않고 TTL에 의해 만료됩니다. 요청자에
+     * 따라 달라지는 작성자 여부는 캐시하지 않으므로 항상 false로 조회됩니다.
+     *
+     * @param postId  - 게시글 ID
+     * @param version - 게시글 상세 캐시 버전
+     * @return 게시글 상세 정보 응답 DTO
+     */
+    @Cacheable(value = "postDetail", key = "#postId + ':' + #version", unless = "#result == null")
+    @Override
+    public PostDetailResponse getPostDetail(final Long postId, final long version) {
+        return postRepository.getPost(postId, null);
+    }
+
+    /**
+     * 게시글 상세 캐시의 버전을 증가시킵니다. 트랜잭션 안에서 호출될 경우 커밋 이후에 증가시켜, 커밋 전의 데이터가 새 버전으로 캐시되지 않도록 합니다.
+     *
+     * @param postId - 게시글 ID
+     */
+    @Override
+    public void evictPostDetailCache(final Long postId) {
+        runAfterCommit(() -> {
+            String versionKey = String.format(POST_DETAIL_VERSION_KEY_PREFIX, postId);
+            redisRepository.increment(versionKey);
+            redisRepository.expire(versionKey, POST_DETAIL_VERSION_TTL);
+        });
+    }
+
+    /**
+     * 최신 게시글 목록에 새 게시글을 추가하고, 용량을 넘는 가장 오래된 게시글을 제거합니다. 목록이 준비되지 않은 경우 다음 재구성에 반영되므로
+     * 무시합니다.
+     *
+     * @param response - 게시글 목록 응답 DTO
+     */
+    @Override
+    public void addToFrontPage(final PostListResponse response) {
+        if (!redisRepository.hasKey(POST_FRONT_PAGE_READY_KEY)) return;
+
+        String postId = String.valueOf(response.getId());
+        compactRedisRepository.setHash(POST_FRONT_PAGE_SUMMARIES_KEY, postId, response);
+        redisRepository.addToZSet(POST_FRONT_PAGE_IDS_KEY, postId, toScore(response));
+
+        Long size = redisRepository.getZSetSize(POST_FRONT_PAGE_IDS_KEY);
+        if (size == null || size <= frontPageCapacity) return;
+
+        long        overflowEnd = size - frontPageCapacity - 1;
+        Set<Object> overflowIds = redisRepository.getZSetRange(POST_FRONT_PAGE_IDS_KEY, 0, overflowEnd);
+        redisRepository.removeRangeFromZSet(POST_FRONT_PAGE_IDS_KEY, 0, overflowEnd);
+        if (!overflowIds.isEmpty()) compactRedisRepository.deleteHash(POST_FRONT_PAGE_SUMMARIES_KEY, overflowIds.toArray());
+    }
+
+    /**
+     * 최신 게시글 목록에 포함된 게시글이면 요약 정보를 갱신합니다.
+     *
+     * @param response - 게시글 목록 응답 DTO
+     */
+    @Override
+    public void updateFrontPage(final PostListResponse response) {
+        if (!redisRepository.hasKey(POST_FRONT_PAGE_READY_KEY)) return;
+
+        String postId = String.valueOf(response.getId());
+        if (redisRepository.getZSetRank(POST_FRONT_PAGE_IDS_KEY, postId) == null) return;
+        compactRedisRepository.setHash(POST_FRONT_PAGE_SUMMARIES_KEY, postId, response);
+    }
+
+    /**
+     * 최신 게시글 목록에서 게시글을 제거합니다. 삭제로 목록이 용량의 절반 아래로 줄어들면 다음 조회 시 재구성하도록 준비 상태를 해제합니다.
+     *
+     * @param postId - 게시글 ID
+     */
+    @Override
+    public void removeFromFrontPage(final Long postId) {
+        if (!redisRepository.hasKey(POST_FRONT_PAGE_READY_KEY)) return;
+
+        String member = String.valueOf(postId);
+        redisRepository.removeFromZSet(POST_FRONT_PAGE_IDS_KEY, member);
+        compactRedisRepository.deleteHash(POST_FRONT_PAGE_SUMMARIES_KEY, member);
+
+        Long size = redisRepository.getZSetSize(POST_FRONT_PAGE_IDS_KEY);
+        if (size == null || size < frontPageCapacity / 2) redisRepository.deleteData(POST_FRONT_PAGE_READY_KEY);
+    }
+
+    /**
+     * 게시글 목록 조회 결과가 캐시 대상인지 확인합니다. 검색어가 없고 기본 정렬인 앞쪽 10페이지만 캐시합니다.
+     *
+     * @param keyword  - 검색어
+     * @param pageable - 페이징 정보
+     * @return 캐시 대상인 경우 true, 그렇지 않으면 false
+     */
+    @Override
+    public boolean isCacheablePage(final String keyword, final Pageable pageable) {
+        return (keyword == null || keyword.trim().isEmpty()) && pageable.getPageNumber() < 10 && isDefaultSort(pageable);
     }
 
     /**
@@ -79,4 +314,110 @@ public class PostCacheServiceImpl implements PostCacheService {
         return order != null && order.isDescending();
     }
 
+    // ========================= Private Methods =========================
+
+    /**
+     * Redis에 유지되는 최신 게시글 목록에서 페이지를 조회합니다. 목록이 준비되지 않았으면 한 요청만 Elasticsearch에서 재구성하고, 요청한 범위를
+     * 모두 채울 수 없으면 null을 반환해 Elasticsearch에서 조회하도록 합니다.
+     *
+     * @param pageable - 페이징 정보
+     * @return 게시글 목록, 최신 게시글 목록에서 조회할 수 없으면 null
+     */
+    private List<PostListResponse> getFrontPagePosts(final Pageable pageable) {
+        long start = pageable.getOffset();
+        long end   = start + pageable.getPageSize() - 1;
+        if (end >= frontPageCapacity) return null;
+
+        if (!redisRepository.hasKey(POST_FRONT_PAGE_READY_KEY) && !rebuildFrontPage()) return null;
+
+        List<String> postIds = redisRepository.getZSetReverseRange(POST_FRONT_PAGE_IDS_KEY, start, end)
+                                              .stream()
+                                              .map(String::valueOf)
+                                              .collect(Collectors.toList());
+        if (postIds.size() < pageable.getPageSize()) return null;
+
+        List<PostListResponse> content = compactRedisRepository.multiGetHash(
+                POST_FRONT_PAGE_SUMMARIES_KEY, postIds, PostListResponse.class
+        );
+        return content.size() == postIds.size() && !content.contains(null) ? content : null;
+    }
+
+    /**
+     * Elasticsearch에서 최신 게시글을 용량만큼 조회해 최신 게시글 목록을 다시 구성합니다. 동시에 하나의 요청만 재구성하며, 준비 상태는 구성이
+     * 끝난 뒤에 설정합니다.
+     *
+     * @return 재구성한 경우 true, 다른 요청이 재구성 중이면 false
+     */
+    private boolean rebuildFrontPage() {
+        if (!redisRepository.setValueIfAbsent(POST_FRONT_PAGE_REBUILD_KEY, 1, FRONT_PAGE_REBUILD_TTL)) return false;
+        try {
+            List<PostListResponse> content = postSearchRepository.getPosts(
+                    null,
+                    PageRequest.of(0, frontPageCapacity, Sort.by(Sort.Direction.DESC, "createdAt")),
+                    frontPageCapacity
+            ).getContent();
+
+            redisRepository.deleteData(POST_FRONT_PAGE_IDS_KEY);
+            compactRedisRepository.deleteData(POST_FRONT_PAGE_SUMMARIES_KEY);
+
+            if (!content.isEmpty()) {
+                Set<TypedTuple<Object>> tuples    = new HashSet<>();
+                Map<String, Object>     summaries = new HashMap<>();
+                for (PostListResponse response : content) {
+                    String postId = String.valueOf(response.getId());
+                    tuples.add(new DefaultTypedTuple<>(postId, toScore(response)));
+                    summaries.put(postId, response);
+                }
+                redisRepository.addToZSet(POST_FRONT_PAGE_IDS_KEY, tuples);
+                compactRedisRepository.putAllToHash(POST_FRONT_PAGE_SUMMARIES_KEY, summaries);
+                redisRepository.expire(POST_FRONT_PAGE_IDS_KEY, FRONT_PAGE_DATA_TTL);
+                compactRedisRepository.expire(POST_FRONT_PAGE_SUMMARIES_KEY, FRONT_PAGE_DATA_TTL);
+            }
+
+            redisRepository.setValue(POST_FRONT_PAGE_READY_KEY, 1, FRONT_PAGE_READY_TTL);
+            return true;
+        } finally {
+            redisRepository.deleteData(POST_FRONT_PAGE_REBUILD_KEY);
+        }
+    }
+
+    private double toScore(final PostListResponse response) {
+        return response.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    /**
+     * 게시글별로 해당 게시글이 포함된 목록 캐시 키를 기록합니다. 모든 게시글의 SADD와 EXPIRE를 한 번의 파이프라인으로 보냅니다.
+     *
+     * @param cacheKey - 목록 캐시 키
+     * @param content  - 게시글 목록
+     */
+    private void registerListPage(final String cacheKey, final List<PostListResponse> content) {
+        redisRepository.pipelineAddToSet(
+                content.stream()
+                       .map(response -> String.format(POST_LIST_PAGES_KEY_PREFIX, response.getId()))
+                       .collect(Collectors.toList()),
+                cacheKey,
+                POST_LIST_PAGES_TTL
+        );
+    }
+
+    /**
+     * 트랜잭션 안에서 호출될 경우 커밋 이후에 작업을 실행하고, 그렇지 않으면 즉시 실행합니다.
+     *
+     * @param task - 실행할 작업
+     */
+    private void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
 }
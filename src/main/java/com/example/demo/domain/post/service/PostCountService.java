@@ -19,8 +19,10 @@ public interface PostCountService {
 
     Map<Long, PostCountDto> getViewCounts(List<Long> postIds);
 
+    Map<Long, Long> getPendingViewCounts(List<Long> postIds);
+
     void incrementViewCount(Long postId, String clientIp);
 
-    void setViewCountToRedis(Long postId);
+    void incrementCommentCount(Long postId, int delta);
 
 }
@@ -1,25 +1,33 @@
 package com.example.demo.domain.post.service;
 
-import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_KEY_PREFIX;
-import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_KEY_PREFIX;
-import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_LOG_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_COMMENTS_FIELD;
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_LIKES_FIELD;
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_VIEWS_FIELD;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_BUCKET_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DRAINING_KEY;
 import static lombok.AccessLevel.PRIVATE;
 
-import com.example.demo.infra.elasticsearch.post.dao.PostSearchRepository;
+import com.example.demo.domain.post.dao.PostRepository;
 import com.example.demo.infra.redis.dao.RedisRepository;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * PackageName : com.example.demo.domain.post.service
@@ -36,14 +44,24 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PostCountServiceImpl implements PostCountService {
 
-    private static final Duration POST_VIEW_LOG_TTL   = Duration.ofDays(1);
-    private static final Duration POST_VIEW_COUNT_TTL = Duration.ofHours(1);
-
-    private final PostSearchRepository postSearchRepository;
-    private final RedisRepository      redisRepository;
+    private static final Duration          POST_STATS_TTL         = Duration.ofHours(1);
+    private static final List<String>      POST_STATS_FIELDS      = Collections.unmodifiableList(Arrays.asList(
+            POST_STATS_VIEWS_FIELD, POST_STATS_LIKES_FIELD, POST_STATS_COMMENTS_FIELD
+    ));
+    private static final RedisScript<Long> INIT_STATS_SCRIPT      = RedisScript.of(
+            new ClassPathResource("scripts/redis/init_post_stats.lua"), Long.class
+    );
+    private static final RedisScript<Long> INCREMENT_STATS_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/increment_post_stats.lua"), Long.class
+    );
+
+    private final PostRepository      postRepository;
+    private final RedisRepository     redisRepository;
+    private final PostViewCountBuffer postViewCountBuffer;
 
     /**
-     * Redis에서 게시글 ID를 기준으로 조회수, 좋아요 수, 댓글 수를 포함한 DTO를 조회합니다.
+     * 게시글 ID를 기준으로 조회수, 좋아요 수, 댓글 수를 포함한 DTO를 조회합니다. 게시글 통계 해시를 한 번의 파이프라인으로 조회하며, 해시가 없는
+     * 게시글만 DB의 카운트와 아직 동기화되지 않은 조회수 증가분으로 해시를 초기화합니다.
      *
      * @param postIds - 게시글 ID 목록
      * @return 게시글 조회수, 좋아요 수, 댓글 수를 포함한 DTO
@@ -52,64 +70,139 @@ public class PostCountServiceImpl implements PostCountService {
     public Map<Long, PostCountDto> getViewCounts(final List<Long> postIds) {
         if (postIds == null || postIds.isEmpty()) return Collections.emptyMap();
 
-        List<String> viewKeys = postIds.stream()
-                                       .map(id -> String.format(POST_VIEW_KEY_PREFIX, id))
-                                       .collect(Collectors.toList());
-
-        List<Long>              viewCountsFromRedis       = redisRepository.multiGetValues(viewKeys, Long.class);
-        Map<Long, PostCountDto> likeAndCommentCountFromEs = postSearchRepository.findCountsById(postIds);
-
-        return IntStream.range(0, postIds.size())
-                        .boxed()
-                        .collect(
-                                Collectors.toMap(
-                                        postIds::get,
-                                        i -> {
-                                            PostCountDto esDto = likeAndCommentCountFromEs.get(postIds.get(i));
-                                            return PostCountDto.of(
-                                                    Optional.ofNullable(viewCountsFromRedis.get(i)).orElse(0L),
-                                                    (esDto != null) ? esDto.getLikeCount() : 0,
-                                                    (esDto != null) ? esDto.getCommentCount() : 0);
-                                        }
-                                )
-                        );
+        List<Long>       distinctIds = postIds.stream().distinct().collect(Collectors.toList());
+        List<List<Long>> stats       = redisRepository.pipelineMultiGetHash(
+                distinctIds.stream().map(id -> String.format(POST_STATS_KEY_PREFIX, id)).collect(Collectors.toList()),
+                POST_STATS_FIELDS,
+                Long.class
+        );
+
+        Map<Long, PostCountDto> result     = new HashMap<>();
+        List<Long>              missingIds = new ArrayList<>();
+        for (int i = 0; i < distinctIds.size(); i++) {
+            List<Long> values = i < stats.size() ? stats.get(i) : null;
+            if (values == null || values.contains(null)) {
+                missingIds.add(distinctIds.get(i));
+                continue;
+            }
+            result.put(
+                    distinctIds.get(i),
+                    PostCountDto.of(values.get(0), values.get(1).intValue(), values.get(2).intValue())
+            );
+        }
+
+        if (!missingIds.isEmpty()) result.putAll(initStats(missingIds));
+        return result;
+    }
+
+    /**
+     * Redis에 기록된, 아직 DB와 Elasticsearch에 동기화되지 않은 게시글 조회수 증가분을 조회합니다. 게시글 ID 구간별 해시를 구간마다 한 번씩
+     * 조회하며, 동기화를 위해 처리 중 해시로 옮겨진 증가분도 포함합니다.
+     *
+     * @param postIds - 게시글 ID 목록
+     * @return 게시글 ID와 조회수 증가분, 증가분이 없는 게시글은 포함되지 않음
+     */
+    @Override
+    public Map<Long, Long> getPendingViewCounts(final List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) return Collections.emptyMap();
+
+        List<String> drainingFields = postIds.stream().map(String::valueOf).collect(Collectors.toList());
+
+        Map<Long, Long> pendingViewCounts  = redisRepository.multiGetBucketedHash(
+                POST_VIEW_COUNT_BUCKET_KEY, postIds, Long.class
+        );
+        List<Long>      drainingViewCounts = redisRepository.multiGetHash(
+                POST_VIEW_DRAINING_KEY, drainingFields, Long.class
+        );
+        Map<Long, Long> result             = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            long pending = pendingViewCounts.getOrDefault(postIds.get(i), 0L);
+            long draining = (i < drainingViewCounts.size() && drainingViewCounts.get(i) != null)
+                            ? drainingViewCounts.get(i) : 0L;
+            if (pending + draining > 0) result.merge(postIds.get(i), pending + draining, Math::max);
+        }
+        return result;
     }
 
     /**
-     * 게시글 조회수 증가를 Redis에 기록합니다. 클라이언트 IP를 사용해서 첫 조회일 경우 조회수 증가하고, 조회 시점에서 24시간 동안 같은 게시글 ID에
-     * 대해 조회수가 증가하지 않습니다.
+     * 게시글 조회수 증가를 기록합니다. 클라이언트 IP를 사용해서 첫 조회일 경우 조회수 증가하고, 조회 시점에서 24시간 동안 같은 게시글 ID에 대해
+     * 조회수가 증가하지 않습니다. 조회는 노드 메모리의 버퍼에 모았다가 주기적으로 Redis에 반영하므로 요청 스레드에서 Redis를 호출하지 않습니다.
      *
      * @param postId   - 게시글 ID
      * @param clientIp - 클라이언트 IP
      */
     @Override
     public void incrementViewCount(final Long postId, final String clientIp) {
-        boolean isFirstView = redisRepository.setValueIfAbsent(
-                String.format(POST_VIEW_LOG_KEY_PREFIX, postId, clientIp), 1, POST_VIEW_LOG_TTL
-        );
-
-        if (isFirstView) redisRepository.increment(String.format(POST_VIEW_COUNT_KEY_PREFIX, postId));
+        postViewCountBuffer.add(postId, clientIp);
     }
 
     /**
-     * 게시글 조회수를 Redis에 기록합니다. Redis에 존재하지 않을 경우 Elasticsearch에서 값을 찾아 Redis에 기록하며, Redis에 존재할 경우
-     * 기존 값에 조회수를 1만큼 증가시킵니다.
+     * 게시글 통계 해시가 있으면 댓글 수를 증가시킵니다. 트랜잭션 안에서 호출될 경우 커밋 이후에 반영합니다.
      *
      * @param postId - 게시글 ID
+     * @param delta  - 증가량
      */
     @Override
-    public void setViewCountToRedis(final Long postId) {
-        String viewKey = String.format(POST_VIEW_KEY_PREFIX, postId);
+    public void incrementCommentCount(final Long postId, final int delta) {
+        runAfterCommit(() -> incrementStats(postId, POST_STATS_COMMENTS_FIELD, delta));
+    }
 
-        Optional<Long> opViewCountFromRedis = redisRepository.getValue(viewKey, Long.class);
+    // ========================= Private Methods =========================
 
-        if (opViewCountFromRedis.isPresent()) {
-            redisRepository.increment(viewKey);
-            redisRepository.expire(viewKey, POST_VIEW_COUNT_TTL);
-        } else
-            redisRepository.setValue(
-                    viewKey, postSearchRepository.findViewCountById(postId).orElse(1L), POST_VIEW_COUNT_TTL
+    /**
+     * DB의 카운트에 아직 동기화되지 않은 조회수 증가분을 더해 게시글 통계 해시를 초기화합니다. 그 사이 다른 요청이 초기화한 해시는 덮어쓰지
+     * 않습니다.
+     *
+     * @param postIds - 게시글 통계 해시가 없는 게시글 ID 목록
+     * @return 게시글 ID와 조회수, 좋아요 수, 댓글 수를 포함한 DTO
+     */
+    private Map<Long, PostCountDto> initStats(final List<Long> postIds) {
+        Map<Long, PostCountDto> countsFromDb      = postRepository.getCounts(postIds);
+        Map<Long, Long>         pendingViewCounts = getPendingViewCounts(postIds);
+
+        Map<Long, PostCountDto> result    = new HashMap<>();
+        List<String>            statsKeys = new ArrayList<>();
+        List<Object>            args      = new ArrayList<>();
+        args.add(POST_STATS_TTL.getSeconds());
+        countsFromDb.forEach((postId, count) -> {
+            PostCountDto stats = PostCountDto.of(
+                    count.getViewCount() + pendingViewCounts.getOrDefault(postId, 0L),
+                    count.getLikeCount(),
+                    count.getCommentCount()
             );
+            result.put(postId, stats);
+            statsKeys.add(String.format(POST_STATS_KEY_PREFIX, postId));
+            args.add(stats.getViewCount());
+            args.add(stats.getLikeCount());
+            args.add(stats.getCommentCount());
+        });
+
+        if (!statsKeys.isEmpty()) redisRepository.executeScript(INIT_STATS_SCRIPT, statsKeys, args.toArray());
+        return result;
+    }
+
+    private void incrementStats(final Long postId, final String field, final int delta) {
+        List<String> keys = Collections.singletonList(String.format(POST_STATS_KEY_PREFIX, postId));
+        redisRepository.executeScript(INCREMENT_STATS_SCRIPT, keys, field, delta);
+    }
+
+    /**
+     * 트랜잭션 안에서 호출될 경우 커밋 이후에 작업을 실행하고, 그렇지 않으면 즉시 실행합니다.
+     *
+     * @param task - 실행할 작업
+     */
+    private void runAfterCommit(final Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
     @Getter
@@ -0,0 +1,20 @@
+package com.example.demo.domain.post.service;
+
+import java.util.UUID;
+
+/**
+ * PackageName : com.example.demo.domain.post.service
+ * FileName    : PostLikeService
+ * Author      : oldolgol331
+ * Date        : 25. 9. 20.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 20.    oldolgol331          Initial creation
+ */
+public interface PostLikeService {
+
+    int toggleLike(Long postId, UUID memberId);
+
+}
@@ -0,0 +1,91 @@
+package com.example.demo.domain.post.service;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_LIKES_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_LIKE_PENDING_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_KEY_PREFIX;
+
+import com.example.demo.domain.post.dao.PostLikeRepository;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * PackageName : com.example.demo.domain.post.service
+ * FileName    : PostLikeServiceImpl
+ * Author      : oldolgol331
+ * Date        : 25. 9. 20.
+ * Description : 게시글 좋아요 상태를 Redis의 게시글별 회원 집합에서 관리하고, DB에는 PostLikeSyncScheduler가 모아서 반영합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 20.    oldolgol331          Initial creation
+ */
+@Service
+@RequiredArgsConstructor
+public class PostLikeServiceImpl implements PostLikeService {
+
+    private static final String LOADED_MARKER = "-";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOGGLE_LIKE_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/toggle_post_like.lua"), List.class
+    );
+    private static final RedisScript<Long> LOAD_LIKES_SCRIPT  = RedisScript.of(
+            new ClassPathResource("scripts/redis/load_post_likes.lua"), Long.class
+    );
+
+    private final PostLikeRepository postLikeRepository;
+    private final RedisRepository    redisRepository;
+
+    /**
+     * 게시글 좋아요를 추가하거나 취소하고 좋아요 수를 반환합니다. 회원 집합의 토글, DB 반영 작업 기록, 게시글 통계 갱신을 하나의 스크립트로
+     * 처리하므로 DB를 조회하지 않습니다. 회원 집합이 아직 적재되지 않은 게시글만 DB에서 한 번 적재합니다.
+     *
+     * @param postId   - 게시글 ID
+     * @param memberId - 회원 ID
+     * @return 좋아요 수
+     */
+    @Override
+    public int toggleLike(final Long postId, final UUID memberId) {
+        List<?> result = toggle(postId, memberId);
+        if (result == null) {
+            loadLikes(postId);
+            result = toggle(postId, memberId);
+        }
+        if (result == null) throw new IllegalStateException("Failed to load post likes. postId: " + postId);
+        return Integer.parseInt(String.valueOf(result.get(1)));
+    }
+
+    // ========================= Private Methods =========================
+
+    private List<?> toggle(final Long postId, final UUID memberId) {
+        List<String> keys = Arrays.asList(
+                String.format(POST_LIKES_KEY_PREFIX, postId),
+                POST_LIKE_PENDING_KEY,
+                String.format(POST_STATS_KEY_PREFIX, postId)
+        );
+        return redisRepository.executeScript(TOGGLE_LIKE_SCRIPT, keys, memberId, postId);
+    }
+
+    /**
+     * DB의 좋아요 회원으로 게시글 좋아요 회원 집합을 적재합니다. 그 사이 다른 요청이 적재한 집합은 덮어쓰지 않습니다.
+     *
+     * @param postId - 게시글 ID
+     */
+    private void loadLikes(final Long postId) {
+        List<UUID>   memberIds = postLikeRepository.findMemberIdsByPostId(postId);
+        List<String> keys      = Collections.singletonList(String.format(POST_LIKES_KEY_PREFIX, postId));
+        List<Object> args      = new ArrayList<>(memberIds.size() + 1);
+        args.add(LOADED_MARKER);
+        args.addAll(memberIds);
+        redisRepository.executeScript(LOAD_LIKES_SCRIPT, keys, args.toArray());
+    }
+
+}
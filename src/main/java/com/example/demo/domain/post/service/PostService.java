@@ -2,6 +2,7 @@ package com.example.demo.domain.post.service;
 
 import com.example.demo.domain.post.dto.PostRequest.PostCreateRequest;
 import com.example.demo.domain.post.dto.PostRequest.PostUpdateRequest;
+import com.example.demo.domain.post.dto.PostResponse.PostCursorResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import java.util.UUID;
@@ -27,6 +28,8 @@ public interface PostService {
 
     Page<PostListResponse> getPosts(String keyword, Pageable pageable);
 
+    PostCursorResponse getPostsByCursor(String keyword, String cursor, int size);
+
     PostDetailResponse updatePost(Long postId, UUID writerId, PostUpdateRequest request);
 
     void deletePost(Long postId, UUID writerId);
@@ -11,27 +11,35 @@ import static com.example.demo.domain.member.model.MemberStatus.ACTIVE;
 import com.example.demo.common.error.CustomException;
 import com.example.demo.domain.member.dao.MemberRepository;
 import com.example.demo.domain.member.model.Member;
-import com.example.demo.domain.post.dao.PostLikeRepository;
 import com.example.demo.domain.post.dao.PostRepository;
 import com.example.demo.domain.post.dto.PostRequest.PostCreateRequest;
 import com.example.demo.domain.post.dto.PostRequest.PostUpdateRequest;
+import com.example.demo.domain.post.dto.PostResponse.PostCursorResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostDetailResponse;
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
 import com.example.demo.domain.post.event.event.PostChangedEvent;
 import com.example.demo.domain.post.model.Post;
-import com.example.demo.domain.post.model.PostLike;
-import com.example.demo.domain.post.model.PostLikeId;
+import com.example.demo.domain.post.model.PostCursor;
 import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
+import com.example.demo.infra.elasticsearch.post.dao.PostSearchRepository;
 import com.example.demo.infra.redis.dao.RedisRepository;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -49,18 +57,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
+@Slf4j
 public class PostServiceImpl implements PostService {
 
+    private static final int  MAX_CURSOR_PAGE_SIZE      = 100;
+    private static final long ENRICHMENT_TIMEOUT_MILLIS = 500L;
+
     private final PostRepository            postRepository;
-    private final PostLikeRepository        postLikeRepository;
     private final MemberRepository          memberRepository;
     private final ApplicationEventPublisher eventPublisher;
-    //private final PostSearchRepository      postSearchRepository;
+    private final PostSearchRepository      postSearchRepository;
 
     private final PostCountService postCountService;
     private final PostCacheService postCacheService;
+    private final PostLikeService  postLikeService;
     private final RedisRepository  redisRepository;
 
+    private final ThreadPoolTaskExecutor postQueryExecutor;
+
     /**
      * 새로운 게시글을 생성합니다.
      *
@@ -95,7 +109,7 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * 게시글 상세 정보를 조회합니다.
+     * 게시글 상세 정보를 조회합니다. 좋아요는 상세 캐시를 무효화하지 않으므로, 카운트는 Redis의 게시글 통계로 덮어씁니다.
      *
      * @param postId   - 게시글 ID
      * @param writerId - 작성자 ID
@@ -104,9 +118,30 @@ public class PostServiceImpl implements PostService {
      */
     @Override
     public PostDetailResponse getPostDetailById(final Long postId, final UUID writerId, final String clientIp) {
-        PostDetailResponse response = postRepository.getPost(postId, writerId);
+        PostDetailResponse response = postCacheService.getPostDetail(
+                postId, postCacheService.getPostDetailVersion(postId)
+        );
         postCountService.incrementViewCount(postId, clientIp);
-        return response;
+
+        if (response == null) return null;
+        boolean      isWriter = writerId != null && writerId.equals(response.getWriterId());
+        PostCountDto count    = postCountService.getViewCounts(Collections.singletonList(postId)).get(postId);
+        if (count == null) return PostDetailResponse.from(response, isWriter);
+
+        return PostDetailResponse.builder()
+                                 .id(response.getId())
+                                 .writerId(response.getWriterId())
+                                 .writer(response.getWriter())
+                                 .title(response.getTitle())
+                                 .content(response.getContent())
+                                 .viewCount(count.getViewCount())
+                                 .likeCount(count.getLikeCount())
+                                 .isDeleted(response.getIsDeleted())
+                                 .createdAt(response.getCreatedAt())
+                                 .updatedAt(response.getUpdatedAt())
+                                 .commentCount(count.getCommentCount())
+                                 .isWriter(isWriter)
+                                 .build();
     }
 
     /**
@@ -139,27 +174,64 @@ public class PostServiceImpl implements PostService {
 //        );
 //
 //        return responsePage;
-        List<PostListResponse> content       = postCacheService.getPosts(keyword, pageable);
-        long                   totalElements = postCacheService.getTotalCount(keyword);
-
-        List<Long> postIdsOnCurrentPage = content.stream()
-                                                 .map(PostListResponse::getId)
-                                                 .collect(Collectors.toList());
-
-        Map<Long, PostCountDto> counts = postCountService.getViewCounts(postIdsOnCurrentPage);
-        content.forEach(
-                response -> {
-                    for (int i = 0; i < counts.size(); i++) {
-                        response.setViewCount(counts.get(response.getId()).getViewCount());
-                        response.setLikeCount(counts.get(response.getId()).getLikeCount());
-                        response.setCommentCount(counts.get(response.getId()).getCommentCount());
-                    }
-                }
+        if (!postCacheService.isCacheablePage(keyword, pageable)) {
+            Page<PostListResponse> responsePage = postCacheService.searchPosts(keyword, pageable);
+            applyCounts(responsePage.getContent());
+            return responsePage;
+        }
+
+        // 전체 수 조회는 목록 조회와 독립적이므로 동시에 실행합니다.
+        // 제한 시간을 넘기면 실행 중인 조회를 인터럽트할 수 있도록 FutureTask로 제출합니다.
+        Future<Long> totalCountFuture = postQueryExecutor.submit(() -> postCacheService.getTotalCount(keyword));
+
+        // L1 캐시의 인스턴스는 여러 요청이 공유하므로 복사본에 카운트를 반영합니다.
+        List<PostListResponse> content = postCacheService.getPosts(keyword, pageable)
+                                                         .stream()
+                                                         .map(PostListResponse::from)
+                                                         .collect(Collectors.toList());
+
+        applyCounts(content);
+
+        long totalElements = getOrDefault(
+                totalCountFuture, pageable.getOffset() + content.size(), "totalCount"
         );
 
         return new PageImpl<>(content, pageable, totalElements);
     }
 
+    /**
+     * 커서 기반으로 게시글 목록을 최신순으로 조회합니다. 응답의 다음 커서로 이어서 조회할 수 있습니다.
+     *
+     * @param keyword - 검색어
+     * @param cursor  - 이전 응답의 다음 커서, 첫 조회일 경우 null
+     * @param size    - 조회 개수
+     * @return 게시글 커서 목록 응답 DTO
+     */
+    @Override
+    public PostCursorResponse getPostsByCursor(final String keyword, final String cursor, final int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        Slice<PostListResponse> slice = postSearchRepository.getPostsByCursor(
+                keyword, PostCursor.decode(cursor), pageSize
+        );
+
+        List<PostListResponse> content = slice.getContent();
+        applyCounts(content);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            PostListResponse last = content.get(content.size() - 1);
+            nextCursor = PostCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return PostCursorResponse.builder()
+                                 .content(content)
+                                 .size(content.size())
+                                 .hasNext(slice.hasNext())
+                                 .nextCursor(nextCursor)
+                                 .build();
+    }
+
     /**
      * 게시글을 수정합니다.
      *
@@ -181,7 +253,8 @@ public class PostServiceImpl implements PostService {
 
         eventPublisher.publishEvent(PostChangedEvent.of(postId, UPDATED));
 
-        postCacheService.evictPostListCache();
+        postCacheService.evictPostListCache(postId);
+        postCacheService.evictPostDetailCache(postId);
 
         return PostDetailResponse.builder()
                                  .id(post.getId())
@@ -217,47 +290,91 @@ public class PostServiceImpl implements PostService {
         post.delete();
 
         postCacheService.evictPostListCache();
+        postCacheService.evictPostDetailCache(postId);
     }
 
     /**
-     * 게시글에 좋아요를 추가하거나 추가된 좋아요를 취소합니다.
+     * 게시글에 좋아요를 추가하거나 추가된 좋아요를 취소합니다. 좋아요 상태와 수는 Redis에서 원자적으로 변경하고 DB에는 모아서 반영하므로,
+     * 게시글 정보는 상세 캐시에서 조회합니다.
      *
      * @param postId   - 게시글 ID
      * @param memberId - 회원 ID
      * @return 게시글 상세 정보 응답 DTO
      */
-    @Transactional
     @Override
     public PostDetailResponse likePost(final Long postId, final UUID memberId) {
-        Member member = memberRepository.findByIdAndMemberStatus(memberId, ACTIVE)
-                                        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-        Post post = postRepository.findByIdAndIsDeletedFalse(postId)
-                                  .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+        if (!memberRepository.existsByIdAndMemberStatus(memberId, ACTIVE)) throw new CustomException(MEMBER_NOT_FOUND);
 
-        if (post.getWriter().getId().equals(memberId)) throw new CustomException(POST_LIKE_CANNOT);
+        PostDetailResponse post = postCacheService.getPostDetail(postId, postCacheService.getPostDetailVersion(postId));
+        if (post == null || Boolean.TRUE.equals(post.getIsDeleted())) throw new CustomException(POST_NOT_FOUND);
+        if (post.getWriterId().equals(memberId)) throw new CustomException(POST_LIKE_CANNOT);
 
-        PostLikeId postLikeId = PostLikeId.builder().memberId(memberId).postId(postId).build();
-        if (postLikeRepository.existsById(postLikeId)) {
-            postLikeRepository.deleteById(postLikeId);
-        } else {
-            postLikeRepository.save(PostLike.of(member, post));
-        }
-
-        eventPublisher.publishEvent(PostChangedEvent.of(postId, UPDATED));
+        int likeCount = postLikeService.toggleLike(postId, memberId);
 
         return PostDetailResponse.builder()
                                  .id(post.getId())
-                                 .writerId(post.getWriter().getId())
-                                 .writer(post.getWriter().getNickname())
+                                 .writerId(post.getWriterId())
+                                 .writer(post.getWriter())
                                  .title(post.getTitle())
                                  .content(post.getContent())
                                  .viewCount(post.getViewCount())
-                                 .likeCount(post.getLikeCount())
+                                 .likeCount(likeCount)
                                  .isDeleted(post.getIsDeleted())
                                  .createdAt(post.getCreatedAt())
                                  .updatedAt(post.getUpdatedAt())
+                                 .commentCount(post.getCommentCount())
                                  .isWriter(false)
                                  .build();
     }
 
+    // ========================= Private Methods =========================
+
+    /**
+     * 게시글 목록에 Redis의 게시글 통계(조회수, 좋아요 수, 댓글 수)를 반영합니다. 조회에 실패하면 반영하지 않고 기존 값을 유지합니다.
+     *
+     * @param content - 게시글 목록
+     */
+    private void applyCounts(final List<PostListResponse> content) {
+        if (content.isEmpty()) return;
+
+        List<Long> postIds = content.stream().map(PostListResponse::getId).collect(Collectors.toList());
+
+        Map<Long, PostCountDto> counts;
+        try {
+            counts = postCountService.getViewCounts(postIds);
+        } catch (RuntimeException e) {
+            log.warn("Failed to load post list counts", e);
+            return;
+        }
+
+        content.forEach(response -> {
+            PostCountDto count = counts.get(response.getId());
+            if (count == null) return;
+            response.setViewCount(count.getViewCount());
+            response.setLikeCount(count.getLikeCount());
+            response.setCommentCount(count.getCommentCount());
+        });
+    }
+
+    /**
+     * 비동기 조회 결과를 제한 시간 동안 기다립니다. 실패하거나 제한 시간을 넘으면 조회를 취소하고 기본값을 반환합니다.
+     *
+     * @param future       - 비동기 조회 결과
+     * @param defaultValue - 기본값
+     * @param name         - 조회 이름
+     * @return 조회 결과 또는 기본값
+     */
+    private <T> T getOrDefault(final Future<T> future, final T defaultValue, final String name) {
+        try {
+            return future.get(ENRICHMENT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for post list {}", name);
+        } catch (ExecutionException | TimeoutException e) {
+            future.cancel(true);
+            log.warn("Failed to load post list {} in {}ms", name, ENRICHMENT_TIMEOUT_MILLIS, e);
+        }
+        return defaultValue;
+    }
+
 }
@@ -0,0 +1,110 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.service.dedupe.PostViewDeduplicator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.service
+ * FileName    : PostViewCountBuffer
+ * Author      : oldolgol331
+ * Date        : 25. 9. 16.
+ * Description : 게시글 조회 기록을 노드 메모리에 모아 두었다가 주기적으로 Redis에 일괄 반영하는 버퍼
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 16.    oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class PostViewCountBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final Map<Long, Set<String>> pendingViewers = new ConcurrentHashMap<>();
+    private final AtomicInteger          pendingSize    = new AtomicInteger();
+    private final LongAdder              droppedViews   = new LongAdder();
+
+    private final PostViewDeduplicator postViewDeduplicator;
+    private final int                  maxPending;
+
+    public PostViewCountBuffer(
+            final PostViewDeduplicator postViewDeduplicator,
+            @Value("${post.view.buffer.max-pending:100000}") final int maxPending
+    ) {
+        this.postViewDeduplicator = postViewDeduplicator;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 게시글 조회를 버퍼에 기록합니다. Redis를 호출하지 않으며, 같은 반영 주기 안의 같은 클라이언트 조회는 한 번만 기록됩니다. 버퍼가 가득 차면
+     * 조회를 버립니다.
+     *
+     * @param postId   - 게시글 ID
+     * @param clientIp - 클라이언트 IP
+     */
+    public void add(final Long postId, final String clientIp) {
+        if (pendingSize.get() >= maxPending) {
+            droppedViews.increment();
+            return;
+        }
+
+        pendingViewers.compute(postId, (id, viewers) -> {
+            Set<String> result = viewers != null ? viewers : ConcurrentHashMap.newKeySet();
+            if (result.add(clientIp)) pendingSize.incrementAndGet();
+            return result;
+        });
+    }
+
+    /**
+     * 버퍼에 모인 조회를 Redis에 반영합니다. 이미 조회한 클라이언트의 조회를 조회수에 반영하지 않도록, 설정된 중복 판단 전략으로 묶음 단위로
+     * 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${post.view.buffer.flush-interval-millis:200}")
+    public void flush() {
+        long dropped = droppedViews.sumThenReset();
+        if (dropped > 0) log.warn("Dropped {} post views because the view buffer was full", dropped);
+
+        Map<Long, Set<String>> chunk     = new HashMap<>();
+        int                    chunkSize = 0;
+        for (Long postId : pendingViewers.keySet()) {
+            Set<String> viewers = pendingViewers.remove(postId);
+            if (viewers == null) continue;
+            pendingSize.addAndGet(-viewers.size());
+
+            chunk.put(postId, viewers);
+            chunkSize += viewers.size();
+            if (chunkSize >= FLUSH_CHUNK_SIZE) {
+                flushChunk(chunk, chunkSize);
+                chunk = new HashMap<>();
+                chunkSize = 0;
+            }
+        }
+        if (!chunk.isEmpty()) flushChunk(chunk, chunkSize);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+    // ========================= Private Methods =========================
+
+    private void flushChunk(final Map<Long, Set<String>> chunk, final int chunkSize) {
+        try {
+            postViewDeduplicator.record(chunk);
+        } catch (Exception e) {
+            log.warn("Failed to flush {} post views", chunkSize, e);
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.example.demo.domain.post.service.dedupe;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_BLOOM_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_BUCKET_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DIRTY_KEY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.example.demo.domain.post.service.properties.PostViewDedupeProperties;
+import com.example.demo.infra.redis.dao.HashBuckets;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.service.dedupe
+ * FileName    : BloomFilterPostViewDeduplicator
+ * Author      : oldolgol331
+ * Date        : 25. 9. 17.
+ * Description : 모든 게시글이 함께 쓰는 일자별 Bloom 필터(Redis 비트맵) 하나에 "게시글 ID:클라이언트 IP"를 기록해 중복 조회를 판단하는
+ *               전략. 필터 크기는 하루 동안 서로 다른 (게시글, 조회자) 쌍의 예상 수 n과 오탐률 p로부터 m = -n·ln(p) / (ln 2)² 비트로
+ *               정해지며, 오탐은 조회수를 적게 세는 방향으로만 발생합니다. 기본값(100만 건, 1%)이면 하루 필터가 약 1.2MB(해시 함수 7개)
+ *               이고, 게시글 수와 관계없이 하루에 필터 하나만 할당됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 17.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.view.dedupe.strategy", havingValue = "bloom")
+public class BloomFilterPostViewDeduplicator implements PostViewDeduplicator {
+
+    private static final long              MAX_BIT_SIZE          = 1L << 32;
+    private static final ZoneId            ZONE                  = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DAY_FORMAT            = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final RedisScript<Long> INCREMENT_VIEW_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/increment_post_views_bloom.lua"), Long.class
+    );
+
+    private final RedisRepository          redisRepository;
+    private final PostViewDedupeProperties properties;
+    private final long                     bitSize;
+    private final int                      hashCount;
+
+    public BloomFilterPostViewDeduplicator(
+            final RedisRepository redisRepository, final PostViewDedupeProperties properties
+    ) {
+        long   n = Math.max(1L, properties.getBloom().getExpectedInsertions());
+        double p = properties.getBloom().getFalsePositiveRate();
+        if (p <= 0 || p >= 1)
+            throw new IllegalArgumentException("post.view.dedupe.bloom.false-positive-rate must be in (0, 1)");
+
+        this.redisRepository = redisRepository;
+        this.properties = properties;
+        this.bitSize = Math.min(
+                MAX_BIT_SIZE, Math.max(64L, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))))
+        );
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    /**
+     * 오늘의 Bloom 필터에 없던 (게시글, 조회자) 쌍만 필터에 추가하고, 그 수만큼 게시글별 조회수를 증가시킵니다.
+     *
+     * @param viewersByPost - 게시글 ID별 조회한 클라이언트 IP
+     */
+    @Override
+    public void record(final Map<Long, ? extends Collection<String>> viewersByPost) {
+        if (viewersByPost.isEmpty()) return;
+
+        String       day       = LocalDate.now(ZONE).format(DAY_FORMAT);
+        List<String> countKeys = new ArrayList<>();
+        List<String> statsKeys = new ArrayList<>();
+        List<Object> args      = new ArrayList<>();
+        args.add(properties.getRetention().getSeconds());
+        args.add(hashCount);
+        args.add(HashBuckets.BUCKET_SIZE);
+
+        viewersByPost.forEach((postId, clientIps) -> {
+            countKeys.add(HashBuckets.key(POST_VIEW_COUNT_BUCKET_KEY, postId));
+            statsKeys.add(String.format(POST_STATS_KEY_PREFIX, postId));
+            args.add(postId);
+            args.add(clientIps.size());
+            for (String clientIp : clientIps) addBitOffsets(args, postId + ":" + clientIp);
+        });
+
+        List<String> keys = new ArrayList<>(countKeys.size() * 2 + 2);
+        keys.add(POST_VIEW_DIRTY_KEY);
+        keys.add(String.format(POST_VIEW_BLOOM_KEY_PREFIX, day));
+        keys.addAll(countKeys);
+        keys.addAll(statsKeys);
+        redisRepository.executeScript(INCREMENT_VIEW_SCRIPT, keys, args.toArray());
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 두 개의 64비트 해시를 조합(Kirsch-Mitzenmacher)해 해시 함수 개수만큼의 비트 위치를 계산합니다.
+     *
+     * @param args  - 비트 위치를 추가할 인자 목록
+     * @param value - 값
+     */
+    private void addBitOffsets(final List<Object> args, final String value) {
+        long hash1 = mix(fnv1a(value.getBytes(UTF_8)));
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) args.add(Math.floorMod(hash1 + i * hash2, bitSize));
+    }
+
+    private long fnv1a(final byte[] bytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB93FCA1B9A87L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.demo.domain.post.service.dedupe;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_STATS_KEY_PREFIX;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_COUNT_BUCKET_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DIRTY_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_LOG_KEY_PREFIX;
+
+import com.example.demo.infra.redis.dao.HashBuckets;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.domain.post.service.dedupe
+ * FileName    : LogKeyPostViewDeduplicator
+ * Author      : oldolgol331
+ * Date        : 25. 9. 17.
+ * Description : (게시글, 클라이언트 IP)마다 24시간 TTL의 조회 기록 키를 두어 중복 조회를 판단하는 전략. 판단이 정확하지만 고유 조회 100만
+ *               건마다 키와 메타데이터로 약 100MB의 메모리를 사용합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 17.    oldolgol331          Initial creation
+ */
+@Component
+@ConditionalOnProperty(name = "post.view.dedupe.strategy", havingValue = "log-key", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LogKeyPostViewDeduplicator implements PostViewDeduplicator {
+
+    private static final Duration          POST_VIEW_LOG_TTL     = Duration.ofDays(1);
+    private static final RedisScript<Long> INCREMENT_VIEW_SCRIPT = RedisScript.of(
+            new ClassPathResource("scripts/redis/increment_post_views.lua"), Long.class
+    );
+
+    private final RedisRepository redisRepository;
+
+    /**
+     * 조회 기록을 남기고, 처음 조회한 클라이언트 수만큼 게시글별 조회수를 증가시킵니다. 조회 기록, 조회수 증가, TTL 설정을 하나의 스크립트로
+     * 원자적으로 처리하므로 중간에 실패해도 두 키가 어긋나지 않습니다. 조회수는 게시글 ID 구간별 해시의 필드로 기록하고, 게시글 통계 해시가 있으면
+     * 함께 반영합니다.
+     *
+     * @param viewersByPost - 게시글 ID별 조회한 클라이언트 IP
+     */
+    @Override
+    public void record(final Map<Long, ? extends Collection<String>> viewersByPost) {
+        List<String> logKeys   = new ArrayList<>();
+        List<String> countKeys = new ArrayList<>();
+        List<String> statsKeys = new ArrayList<>();
+        List<Object> args      = new ArrayList<>();
+        args.add(POST_VIEW_LOG_TTL.getSeconds());
+        args.add(HashBuckets.BUCKET_SIZE);
+
+        viewersByPost.forEach((postId, clientIps) -> {
+            for (String clientIp : clientIps) {
+                logKeys.add(String.format(POST_VIEW_LOG_KEY_PREFIX, postId, clientIp));
+                countKeys.add(HashBuckets.key(POST_VIEW_COUNT_BUCKET_KEY, postId));
+                statsKeys.add(String.format(POST_STATS_KEY_PREFIX, postId));
+                args.add(postId);
+            }
+        });
+        if (logKeys.isEmpty()) return;
+
+        List<String> keys = new ArrayList<>(logKeys.size() * 3 + 1);
+        keys.add(POST_VIEW_DIRTY_KEY);
+        keys.addAll(logKeys);
+        keys.addAll(countKeys);
+        keys.addAll(statsKeys);
+        redisRepository.executeScript(INCREMENT_VIEW_SCRIPT, keys, args.toArray());
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.demo.domain.post.service.dedupe;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * PackageName : com.example.demo.domain.post.service.dedupe
+ * FileName    : PostViewDeduplicator
+ * Author      : oldolgol331
+ * Date        : 25. 9. 17.
+ * Description : 게시글 조회의 중복 여부를 판단해 처음 조회한 클라이언트만 조회수에 반영하는 전략
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 17.    oldolgol331          Initial creation
+ */
+public interface PostViewDeduplicator {
+
+    void record(Map<Long, ? extends Collection<String>> viewersByPost);
+
+}
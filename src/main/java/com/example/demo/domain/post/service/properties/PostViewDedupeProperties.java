@@ -0,0 +1,39 @@
+package com.example.demo.domain.post.service.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PackageName : com.example.demo.domain.post.service.properties
+ * FileName    : PostViewDedupeProperties
+ * Author      : oldolgol331
+ * Date        : 25. 9. 17.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 17.    oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "post.view.dedupe")
+@Getter
+@Setter
+public class PostViewDedupeProperties {
+
+    private Strategy strategy  = Strategy.LOG_KEY;
+    private Duration retention = Duration.ofDays(2);
+    private Bloom    bloom     = new Bloom();
+
+    public enum Strategy {
+        LOG_KEY, BLOOM, HYPER_LOG_LOG
+    }
+
+    @Getter
+    @Setter
+    public static class Bloom {
+        private long   expectedInsertions = 1_000_000;
+        private double falsePositiveRate  = 0.01;
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.example.demo.infra.elasticsearch.common.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.common.config.properties
+ * FileName    : ElasticsearchBulkProperties
+ * Author      : oldolgol331
+ * Date        : 25. 9. 23.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 23.    oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "elasticsearch.bulk")
+@Getter
+@Setter
+public class ElasticsearchBulkProperties {
+
+    private int      maxActions         = 1000;
+    private DataSize maxSize            = DataSize.ofMegabytes(5);
+    private int      concurrentRequests = 2;
+    private Duration initialBackoff     = Duration.ofMillis(100);
+    private int      maxRetries         = 5;
+    private Duration closeTimeout       = Duration.ofMinutes(5);
+
+}
@@ -0,0 +1,85 @@
+package com.example.demo.infra.elasticsearch.common.job.partition;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.common.job.partition
+ * FileName    : IdRangePartitioner
+ * Author      : oldolgol331
+ * Date        : 25. 9. 24.
+ * Description : 대상 행의 최소/최대 ID를 조회해 연속된 ID 구간으로 나누는 Partitioner
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 24.    oldolgol331          Initial creation
+ */
+@Slf4j
+public class IdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+
+    private final JdbcTemplate        jdbcTemplate;
+    private final String              minMaxSql;
+    private final Map<String, String> sharedContext;
+    private final Object[]            args;
+
+    /**
+     * @param jdbcTemplate  - 대상 테이블의 JdbcTemplate
+     * @param minMaxSql     - 대상 행의 최소 ID와 최대 ID를 순서대로 조회하는 SQL
+     * @param sharedContext - 모든 파티션의 실행 컨텍스트에 함께 넣을 값
+     * @param args          - SQL 파라미터
+     */
+    public IdRangePartitioner(
+            final JdbcTemplate jdbcTemplate,
+            final String minMaxSql,
+            final Map<String, String> sharedContext,
+            final Object... args
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minMaxSql = minMaxSql;
+        this.sharedContext = sharedContext;
+        this.args = args;
+    }
+
+    /**
+     * 최소 ID부터 최대 ID까지를 gridSize개의 구간으로 나눕니다. 각 구간의 경계는 파티션의 실행 컨텍스트에 저장되므로, 실패한 잡을 같은
+     * 파라미터로 다시 실행하면 완료되지 않은 파티션만 같은 구간에서 이어서 처리합니다. 대상 행이 없으면 파티션을 만들지 않습니다.
+     *
+     * @param gridSize - 파티션 수
+     * @return 파티션 이름과 실행 컨텍스트
+     */
+    @Override
+    public Map<String, ExecutionContext> partition(final int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        long[] range = jdbcTemplate.queryForObject(minMaxSql, (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            if (rs.wasNull()) return null;
+            return new long[]{min, rs.getLong(2)};
+        }, args);
+        if (range == null) return partitions;
+
+        long min  = range[0];
+        long max  = range[1];
+        long size = (max - min) / Math.max(1, gridSize) + 1;
+
+        int number = 0;
+        for (long start = min; start <= max; start += size) {
+            ExecutionContext context = new ExecutionContext();
+            sharedContext.forEach(context::putString);
+            context.putLong(MIN_ID_KEY, start);
+            context.putLong(MAX_ID_KEY, Math.min(start + size - 1, max));
+            partitions.put("partition" + number++, context);
+        }
+
+        log.info("Split id range [{}, {}] into {} partitions", min, max, partitions.size());
+        return partitions;
+    }
+
+}
@@ -1,15 +1,28 @@
 package com.example.demo.infra.elasticsearch.common.job.step;
 
+import com.example.demo.infra.elasticsearch.common.config.properties.ElasticsearchBulkProperties;
 import com.example.demo.infra.elasticsearch.common.document.ElasticsearchDocument;
+import io.micrometer.core.instrument.Metrics;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
-import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
-import org.springframework.data.elasticsearch.core.query.IndexQuery;
-import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
 
 /**
  * PackageName : com.example.demo.infra.elasticsearch.common.job.step
@@ -22,29 +35,209 @@ import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
  * ---------------------------------------------------------------------------------------------------------------------
  * 25. 8. 27.    oldolgol331          Initial creation
  */
-@RequiredArgsConstructor
 @Slf4j
-public class GenericElasticsearchBulkItemWriter<T extends ElasticsearchDocument> implements ItemWriter<T> {
+public class GenericElasticsearchBulkItemWriter<T extends ElasticsearchDocument> implements ItemStreamWriter<T> {
 
-    private final ElasticsearchRestTemplate elasticsearchRestTemplate;
-    private final String                    indexName;
+    private static final String METRIC_DOCUMENTS = "elasticsearch.bulk.documents";
+    private static final String METRIC_BYTES     = "elasticsearch.bulk.bytes";
+    private static final String METRIC_REQUESTS  = "elasticsearch.bulk.requests";
 
+    private final RestHighLevelClient         restHighLevelClient;
+    private final ElasticsearchConverter      elasticsearchConverter;
+    private final String                      indexName;
+    private final ElasticsearchBulkProperties properties;
+
+    private final AtomicReference<String> failure          = new AtomicReference<>();
+    private final AtomicLong              indexedDocuments = new AtomicLong();
+    private final AtomicLong              indexedBytes     = new AtomicLong();
+    private final Object                  inFlightLock     = new Object();
+    private       int                     inFlightRequests;
+    private       BulkProcessor           bulkProcessor;
+    private       long                    openedAt;
+
+    public GenericElasticsearchBulkItemWriter(
+            final RestHighLevelClient restHighLevelClient,
+            final ElasticsearchConverter elasticsearchConverter,
+            final String indexName,
+            final ElasticsearchBulkProperties properties
+    ) {
+        this.restHighLevelClient = restHighLevelClient;
+        this.elasticsearchConverter = elasticsearchConverter;
+        this.indexName = indexName;
+        this.properties = properties;
+    }
+
+    /**
+     * 문서 수와 요청 크기 중 먼저 도달한 기준으로 벌크 요청을 보내는 BulkProcessor를 생성합니다. 동시에 진행 중인 요청 수가 상한에 도달하면
+     * 문서 추가가 대기하므로, 읽기와 쓰기가 겹치면서도 Elasticsearch가 감당할 수 있는 속도로 제한됩니다. 겹침은 한 청크 안에서만 일어나며,
+     * 청크가 커밋되기 전에 {@link #update(ExecutionContext)}에서 모든 요청이 끝날 때까지 기다립니다.
+     *
+     * @param executionContext - 실행 컨텍스트
+     */
+    @Override
+    public void open(final ExecutionContext executionContext) {
+        failure.set(null);
+        indexedDocuments.set(0);
+        indexedBytes.set(0);
+        openedAt = System.currentTimeMillis();
+        bulkProcessor = BulkProcessor.builder(
+                (request, listener) -> restHighLevelClient.bulkAsync(request, RequestOptions.DEFAULT, listener),
+                new MetricsListener(),
+                "bulk-" + indexName
+        )
+                .setBulkActions(properties.getMaxActions())
+                .setBulkSize(new ByteSizeValue(properties.getMaxSize().toBytes()))
+                .setConcurrentRequests(properties.getConcurrentRequests())
+                .setBackoffPolicy(
+                        BackoffPolicy.exponentialBackoff(
+                                TimeValue.timeValueMillis(properties.getInitialBackoff().toMillis()),
+                                properties.getMaxRetries()
+                        )
+                )
+                .build();
+    }
+
+    /**
+     * 문서를 벌크 요청에 추가합니다. 이전 요청에서 재시도로도 해결되지 않은 실패가 있으면 스텝을 실패시킵니다.
+     *
+     * @param items - 색인할 문서 목록
+     */
+    @Override
+    public void write(final List<? extends T> items) {
+        throwIfFailed();
+
+        for (T item : items) {
+            String source = elasticsearchConverter.mapObject(item).toJson();
+            bulkProcessor.add(new IndexRequest(indexName).id(item.getId()).source(source, XContentType.JSON));
+        }
+    }
+
+    /**
+     * 체크포인트가 저장되기 전에 추가된 문서를 모두 보내고, 진행 중인 벌크 요청이 모두 끝날 때까지 기다린 뒤 실패 여부를 확인합니다. 응답을
+     * 받지 못한 문서가 있는 상태로 리더의 위치가 저장되면, 그 요청이 실패했을 때 재시작이 해당 문서를 건너뛰기 때문입니다.
+     *
+     * @param executionContext - 실행 컨텍스트
+     */
+    @Override
+    public void update(final ExecutionContext executionContext) {
+        if (bulkProcessor == null) return;
+
+        bulkProcessor.flush();
+        awaitInFlightRequests();
+        throwIfFailed();
+    }
+
+    /**
+     * 남은 문서를 보내고 진행 중인 요청이 모두 끝날 때까지 기다린 뒤, 처리량을 기록합니다.
+     */
     @Override
-    public void write(List<? extends T> items) throws Exception {
-        if (items.isEmpty()) return;
+    public void close() {
+        if (bulkProcessor == null) return;
+
+        try {
+            if (!bulkProcessor.awaitClose(properties.getCloseTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                throw new ItemStreamException("Timed out waiting for bulk requests to '" + indexName + "'");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ItemStreamException("Interrupted while waiting for bulk requests to '" + indexName + "'", e);
+        } finally {
+            bulkProcessor = null;
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - openedAt);
+        log.info(
+                "Bulk indexed {} documents ({} bytes) into index '{}' in {}ms ({} docs/s)",
+                indexedDocuments.get(), indexedBytes.get(), indexName, elapsed,
+                indexedDocuments.get() * 1000 / elapsed
+        );
+        throwIfFailed();
+    }
+
+    // ========================= Private Methods =========================
+
+    private void awaitInFlightRequests() {
+        long deadline = System.currentTimeMillis() + properties.getCloseTimeout().toMillis();
+        synchronized (inFlightLock) {
+            try {
+                while (inFlightRequests > 0) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0)
+                        throw new ItemStreamException("Timed out waiting for bulk requests to '" + indexName + "'");
+                    inFlightLock.wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ItemStreamException("Interrupted while waiting for bulk requests to '" + indexName + "'", e);
+            }
+        }
+    }
+
+    private void throwIfFailed() {
+        String message = failure.get();
+        if (message != null) throw new ItemStreamException("Bulk indexing into '" + indexName + "' failed: " + message);
+    }
+
+    /**
+     * 벌크 요청의 결과를 집계합니다. 거절(429)된 문서는 BulkProcessor가 백오프 후 해당 문서만 다시 보내므로, 여기에 도달한 실패는 재시도
+     * 횟수를 넘겼거나 재시도 대상이 아닌 실패입니다.
+     */
+    private class MetricsListener implements BulkProcessor.Listener {
+
+        @Override
+        public void beforeBulk(final long executionId, final BulkRequest request) {
+            synchronized (inFlightLock) {
+                inFlightRequests++;
+            }
+        }
+
+        @Override
+        public void afterBulk(final long executionId, final BulkRequest request, final BulkResponse response) {
+            try {
+                recordResponse(executionId, request, response);
+            } finally {
+                completeRequest();
+            }
+        }
+
+        @Override
+        public void afterBulk(final long executionId, final BulkRequest request, final Throwable cause) {
+            try {
+                Metrics.counter(METRIC_DOCUMENTS, "index", indexName, "result", "failure")
+                       .increment(request.numberOfActions());
+                log.error("Bulk request #{} to '{}' failed", executionId, indexName, cause);
+                failure.compareAndSet(null, String.valueOf(cause.getMessage()));
+            } finally {
+                completeRequest();
+            }
+        }
+
+        private void recordResponse(final long executionId, final BulkRequest request, final BulkResponse response) {
+            int failed = 0;
+            for (BulkItemResponse item : response.getItems())
+                if (item.isFailed()) failed++;
+            int succeeded = request.numberOfActions() - failed;
+
+            indexedDocuments.addAndGet(succeeded);
+            indexedBytes.addAndGet(request.estimatedSizeInBytes());
+            Metrics.counter(METRIC_DOCUMENTS, "index", indexName, "result", "success").increment(succeeded);
+            Metrics.counter(METRIC_BYTES, "index", indexName).increment(request.estimatedSizeInBytes());
+            Metrics.timer(METRIC_REQUESTS, "index", indexName)
+                   .record(response.getTook().millis(), TimeUnit.MILLISECONDS);
 
-        List<IndexQuery> queries = items.stream()
-                                        .map(
-                                                item -> new IndexQueryBuilder()
-                                                        .withId(item.getId())
-                                                        .withObject(item)
-                                                        .build()
-                                        )
-                                        .collect(Collectors.toList());
+            if (failed > 0) {
+                Metrics.counter(METRIC_DOCUMENTS, "index", indexName, "result", "failure").increment(failed);
+                log.error("Bulk request #{} to '{}' had {} failed items", executionId, indexName, failed);
+                failure.compareAndSet(null, response.buildFailureMessage());
+            }
+        }
 
-        elasticsearchRestTemplate.bulkIndex(queries, IndexCoordinates.of(indexName));
+        private void completeRequest() {
+            synchronized (inFlightLock) {
+                inFlightRequests--;
+                inFlightLock.notifyAll();
+            }
+        }
 
-        log.info("Bulk indexed {} documents into index '{}'", items.size(), indexName);
     }
 
 }
@@ -1,25 +1,29 @@
 package com.example.demo.infra.elasticsearch.post.config;
 
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
 import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
 import com.example.demo.common.jobmeta.event.listener.JobMetaDataUpdateListener;
 import com.example.demo.domain.post.model.PostDto;
+import com.example.demo.infra.elasticsearch.common.config.properties.ElasticsearchBulkProperties;
+import com.example.demo.infra.elasticsearch.common.job.partition.IdRangePartitioner;
 import com.example.demo.infra.elasticsearch.common.job.step.GenericElasticsearchBulkItemWriter;
+import com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper;
 import com.example.demo.infra.elasticsearch.post.model.PostDocument;
-import java.sql.SQLException;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.UUID;
+import java.util.HashMap;
+import java.util.Map;
 import javax.sql.DataSource;
-import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.ItemStreamWriter;
 import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
@@ -27,8 +31,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 /**
  * PackageName : com.example.demo.infra.elasticsearch.post.config
@@ -42,19 +47,28 @@ import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
  * 25. 8. 27.    oldolgol331          Initial creation
  */
 @Configuration
-@Slf4j
 public class PostDbToEsConfig {
 
+    public static final String LAST_INDEXED_AT_KEY = "lastIndexedAt";
+    public static final String INDEX_NAME_KEY      = "indexName";
+    public static final String ID_RANGE_SQL        = "SELECT MIN(post_id), MAX(post_id) FROM posts "
+                                                     + "WHERE updated_at > ?";
+
     private static final int CHUNK_SIZE = 1000;
 
-    private final JobBuilderFactory         jobBuilderFactory;
-    private final StepBuilderFactory        stepBuilderFactory;
-    //private final EntityManagerFactory      entityManagerFactory;
-    //private final PostSearchRepository      postSearchRepository;
-    private final DataSource                dataSource;
-    private final PagingQueryProvider       pagingQueryProvider;
-    private final ElasticsearchRestTemplate elasticsearchRestTemplate;
-    private final JobMetaDataUpdateListener jobMetaDataUpdateListener;
+    private final JobBuilderFactory           jobBuilderFactory;
+    private final StepBuilderFactory          stepBuilderFactory;
+    //private final EntityManagerFactory        entityManagerFactory;
+    //private final PostSearchRepository        postSearchRepository;
+    private final DataSource                  dataSource;
+    private final JdbcTemplate                jdbcTemplate;
+    private final PagingQueryProvider         pagingQueryProvider;
+    private final ElasticsearchRestTemplate   elasticsearchRestTemplate;
+    private final RestHighLevelClient         restHighLevelClient;
+    private final ElasticsearchBulkProperties elasticsearchBulkProperties;
+    private final JobMetaDataUpdateListener   jobMetaDataUpdateListener;
+    private final TaskExecutor                postMigrationExecutor;
+    private final int                         gridSize;
 
     public PostDbToEsConfig(
             final JobBuilderFactory jobBuilderFactory,
@@ -62,18 +76,28 @@ public class PostDbToEsConfig {
             //@Qualifier("dataEntityManagerFactory") final EntityManagerFactory entityManagerFactory,
             //final PostSearchRepository postSearchRepository,
             @Qualifier("dataDBSource") final DataSource dataSource,
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
             @Qualifier("postPagingQueryProvider") final PagingQueryProvider pagingQueryProvider,
             final ElasticsearchRestTemplate elasticsearchRestTemplate,
-            final JobMetaDataUpdateListener jobMetaDataUpdateListener
+            final RestHighLevelClient restHighLevelClient,
+            final ElasticsearchBulkProperties elasticsearchBulkProperties,
+            final JobMetaDataUpdateListener jobMetaDataUpdateListener,
+            @Qualifier("postMigrationExecutor") final TaskExecutor postMigrationExecutor,
+            @Value("${post.sync.partition.grid-size:8}") final int gridSize
     ) {
         this.jobBuilderFactory = jobBuilderFactory;
         this.stepBuilderFactory = stepBuilderFactory;
         //this.entityManagerFactory = entityManagerFactory;
         //this.postSearchRepository = postSearchRepository;
         this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
         this.pagingQueryProvider = pagingQueryProvider;
         this.elasticsearchRestTemplate = elasticsearchRestTemplate;
+        this.restHighLevelClient = restHighLevelClient;
+        this.elasticsearchBulkProperties = elasticsearchBulkProperties;
         this.jobMetaDataUpdateListener = jobMetaDataUpdateListener;
+        this.postMigrationExecutor = postMigrationExecutor;
+        this.gridSize = gridSize;
     }
 
     @Bean
@@ -81,62 +105,73 @@ public class PostDbToEsConfig {
         return jobBuilderFactory.get("postDbToEsMigrationJob")
                                 .incrementer(new RunIdIncrementer())
                                 .listener(jobMetaDataUpdateListener)
-                                .start(postDbToEsStep())
+                                .start(postDbToEsManagerStep())
                                 .build();
     }
 
+    /**
+     * 게시글 ID 구간별 파티션을 제한된 스레드 풀에서 동시에 실행합니다. 각 파티션은 독립된 스텝 실행으로 기록되므로, 실패한 잡을 같은 파라미터로
+     * 다시 실행하면 완료된 파티션은 건너뛰고 실패한 파티션만 마지막 커밋 지점부터 이어서 처리합니다.
+     *
+     * @return 파티션 관리 스텝
+     */
+    @Bean
+    public Step postDbToEsManagerStep() {
+        return stepBuilderFactory.get("postDbToEsManagerStep")
+                                 .partitioner("postDbToEsStep", postIdRangePartitioner(null))
+                                 .step(postDbToEsStep())
+                                 .gridSize(gridSize)
+                                 .taskExecutor(postMigrationExecutor)
+                                 .build();
+    }
+
+    @Bean
+    @StepScope
+    public Partitioner postIdRangePartitioner(
+            @Value("#{jobParameters['lastIndexedAt']}") final String lastIndexedAtStr
+    ) {
+        Map<String, String> sharedContext = new HashMap<>();
+        sharedContext.put(LAST_INDEXED_AT_KEY, lastIndexedAtStr);
+        sharedContext.put(INDEX_NAME_KEY, POST_WRITE_ALIAS);
+
+        return new IdRangePartitioner(
+                jdbcTemplate,
+                ID_RANGE_SQL,
+                sharedContext,
+                LocalDateTime.parse(lastIndexedAtStr, ISO_LOCAL_DATE_TIME)
+        );
+    }
+
     @Bean
     public Step postDbToEsStep() {
         return stepBuilderFactory.get("postDbToEsStep")
                                  .<PostDto, PostDocument>chunk(CHUNK_SIZE)
-                                 .reader(postJdbcPagingItemReader(null))
+                                 .reader(postJdbcPagingItemReader(null, null, null))
                                  .processor(postDtoToPostDocumentItemProcessor())
-                                 .writer(postDocumentItemWriter())
+                                 .writer(postDocumentItemWriter(null))
                                  .build();
     }
 
     @Bean
     @StepScope
     public JdbcPagingItemReader<PostDto> postJdbcPagingItemReader(
-            @Value("#{jobParameters['lastIndexedAt']}") final String lastIndexedAtStr
+            @Value("#{stepExecutionContext['lastIndexedAt']}") final String lastIndexedAtStr,
+            @Value("#{stepExecutionContext['minId']}") final Long minId,
+            @Value("#{stepExecutionContext['maxId']}") final Long maxId
     ) {
+        Map<String, Object> parameterValues = new HashMap<>();
+        parameterValues.put("lastIndexedAt", LocalDateTime.parse(lastIndexedAtStr, ISO_LOCAL_DATE_TIME));
+        parameterValues.put("minId", minId);
+        parameterValues.put("maxId", maxId);
+
         return new JdbcPagingItemReaderBuilder<PostDto>()
                 .name("postJdbcPagingItemReader")
                 .dataSource(dataSource)
                 .queryProvider(pagingQueryProvider)
-                .parameterValues(
-                        Collections.singletonMap(
-                                "lastIndexedAt", LocalDateTime.parse(lastIndexedAtStr, ISO_LOCAL_DATE_TIME)
-                        )
-                )
+                .parameterValues(parameterValues)
                 .pageSize(CHUNK_SIZE)
                 //.rowMapper(new BeanPropertyRowMapper<>(PostDto.class))
-                .rowMapper((rs, rowNum) -> {
-                    try {
-                        return PostDto.builder()
-                                      .id(rs.getLong("post_id"))
-                                      .writerId(rs.getObject("member_id", UUID.class))
-                                      .writer(rs.getString("nickname"))
-                                      .title(rs.getString("title"))
-                                      .content(rs.getString("content"))
-                                      .viewCount(rs.getLong("view_count"))
-                                      .likeCount(rs.getInt("like_count"))
-                                      .isDeleted(rs.getBoolean("is_deleted"))
-                                      .commentCount(rs.getInt("comment_count"))
-                                      .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
-                                      .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
-                                      .build();
-                    } catch (SQLException e) {
-                        long errorId = -1;
-                        try {
-                            errorId = rs.getLong("post_id");
-                        } catch (SQLException ignored) {}
-                        log.error("FAILED TO MAP ROW to PostDto. ID: {}", errorId, e);
-                        throw new DataIntegrityViolationException(
-                                "Failed to map row #" + rowNum + " with ID: " + errorId, e
-                        );
-                    }
-                })
+                .rowMapper(new PostDtoRowMapper())
                 .build();
     }
 
@@ -163,8 +198,16 @@ public class PostDbToEsConfig {
 //    }
 
     @Bean
-    public ItemWriter<PostDocument> postDocumentItemWriter() {
-        return new GenericElasticsearchBulkItemWriter<>(elasticsearchRestTemplate, "posts");
+    @StepScope
+    public ItemStreamWriter<PostDocument> postDocumentItemWriter(
+            @Value("#{stepExecutionContext['indexName']}") final String indexName
+    ) {
+        return new GenericElasticsearchBulkItemWriter<>(
+                restHighLevelClient,
+                elasticsearchRestTemplate.getElasticsearchConverter(),
+                indexName,
+                elasticsearchBulkProperties
+        );
     }
 
 //    @Bean
@@ -0,0 +1,247 @@
+package com.example.demo.infra.elasticsearch.post.config;
+
+import static com.example.demo.infra.elasticsearch.post.config.PostDbToEsConfig.INDEX_NAME_KEY;
+import static com.example.demo.infra.elasticsearch.post.config.PostDbToEsConfig.LAST_INDEXED_AT_KEY;
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+import com.example.demo.domain.post.model.PostDto;
+import com.example.demo.infra.elasticsearch.common.job.partition.IdRangePartitioner;
+import com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper;
+import com.example.demo.infra.elasticsearch.post.index.PostIndexManager;
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.PagingQueryProvider;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.config
+ * FileName    : PostIndexRebuildConfig
+ * Author      : oldolgol331
+ * Date        : 25. 9. 25.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 25.    oldolgol331          Initial creation
+ */
+@Configuration
+public class PostIndexRebuildConfig {
+
+    private static final int    CHUNK_SIZE           = 1000;
+    private static final long   CATCH_UP_MARGIN_SECS = 60;
+    private static final String TARGET_INDEX_KEY     = "targetIndex";
+    private static final String CATCH_UP_FROM_KEY    = "catchUpFrom";
+    private static final String PASS_STARTED_AT_KEY  = "passStartedAt";
+    private static final String FULL_LOAD_FROM       = "1970-01-01T00:00:00";
+    private static final String ID_RANGE_SQL         = "SELECT MIN(post_id), MAX(post_id) FROM posts "
+                                                       + "WHERE updated_at > ? OR counters_updated_at > ?";
+
+    private final JobBuilderFactory                    jobBuilderFactory;
+    private final StepBuilderFactory                   stepBuilderFactory;
+    private final DataSource                           dataSource;
+    private final JdbcTemplate                         jdbcTemplate;
+    private final PagingQueryProvider                  pagingQueryProvider;
+    private final PostIndexManager                     postIndexManager;
+    private final ItemProcessor<PostDto, PostDocument> postDtoToPostDocumentItemProcessor;
+    private final ItemStreamWriter<PostDocument>       postDocumentItemWriter;
+    private final TaskExecutor                         postMigrationExecutor;
+    private final int                                  gridSize;
+
+    public PostIndexRebuildConfig(
+            final JobBuilderFactory jobBuilderFactory,
+            final StepBuilderFactory stepBuilderFactory,
+            @Qualifier("dataDBSource") final DataSource dataSource,
+            @Qualifier("dataJdbcTemplate") final JdbcTemplate jdbcTemplate,
+            @Qualifier("postRebuildPagingQueryProvider") final PagingQueryProvider pagingQueryProvider,
+            final PostIndexManager postIndexManager,
+            @Qualifier("postDtoToPostDocumentItemProcessor")
+            final ItemProcessor<PostDto, PostDocument> postDtoToPostDocumentItemProcessor,
+            @Qualifier("postDocumentItemWriter") final ItemStreamWriter<PostDocument> postDocumentItemWriter,
+            @Qualifier("postMigrationExecutor") final TaskExecutor postMigrationExecutor,
+            @Value("${post.sync.partition.grid-size:8}") final int gridSize
+    ) {
+        this.jobBuilderFactory = jobBuilderFactory;
+        this.stepBuilderFactory = stepBuilderFactory;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.pagingQueryProvider = pagingQueryProvider;
+        this.postIndexManager = postIndexManager;
+        this.postDtoToPostDocumentItemProcessor = postDtoToPostDocumentItemProcessor;
+        this.postDocumentItemWriter = postDocumentItemWriter;
+        this.postMigrationExecutor = postMigrationExecutor;
+        this.gridSize = gridSize;
+    }
+
+    /**
+     * 새 버전 인덱스를 만들어 전체 게시글을 적재한 뒤 읽기/쓰기 별칭을 옮깁니다. 검색은 별칭이 옮겨질 때까지 기존 인덱스에서 처리되므로 적재 중에도
+     * 영향을 받지 않습니다.
+     * <ol>
+     *     <li>새로 고침과 복제본을 끈 새 인덱스를 만듭니다.</li>
+     *     <li>전체 게시글을 ID 구간별로 나누어 적재합니다.</li>
+     *     <li>적재하는 동안 변경된 게시글을 다시 적재합니다.</li>
+     *     <li>새로 고침과 복제본을 되돌리고 별칭을 한 번에 옮깁니다.</li>
+     *     <li>마지막 따라잡기 이후 별칭을 옮기기 전까지 기존 인덱스에만 반영된 변경을 다시 적재합니다.</li>
+     * </ol>
+     *
+     * @return 인덱스 재구성 잡
+     */
+    @Bean
+    public Job postIndexRebuildJob() {
+        return jobBuilderFactory.get("postIndexRebuildJob")
+                                .incrementer(new RunIdIncrementer())
+                                .start(postIndexCreateStep())
+                                .next(loadPass("postIndexLoadStep"))
+                                .next(loadPass("postIndexCatchUpStep"))
+                                .next(postIndexSwitchStep())
+                                .next(loadPass("postIndexFinalCatchUpStep"))
+                                .build();
+    }
+
+    @Bean
+    public Step postIndexCreateStep() {
+        return stepBuilderFactory.get("postIndexCreateStep")
+                                 .tasklet((contribution, chunkContext) -> {
+                                     ExecutionContext jobContext = getJobContext(contribution.getStepExecution());
+                                     jobContext.putString(TARGET_INDEX_KEY, postIndexManager.createNextIndex());
+                                     jobContext.putString(CATCH_UP_FROM_KEY, FULL_LOAD_FROM);
+                                     return RepeatStatus.FINISHED;
+                                 })
+                                 .build();
+    }
+
+    @Bean
+    public Step postIndexSwitchStep() {
+        return stepBuilderFactory.get("postIndexSwitchStep")
+                                 .tasklet((contribution, chunkContext) -> {
+                                     String index = getJobContext(contribution.getStepExecution())
+                                             .getString(TARGET_INDEX_KEY);
+                                     postIndexManager.prepareForSearch(index);
+                                     postIndexManager.switchAliases(index);
+                                     return RepeatStatus.FINISHED;
+                                 })
+                                 .build();
+    }
+
+    @Bean
+    @StepScope
+    public Partitioner postIndexRebuildPartitioner(
+            @Value("#{jobExecutionContext['targetIndex']}") final String targetIndex,
+            @Value("#{jobExecutionContext['catchUpFrom']}") final String catchUpFrom
+    ) {
+        Map<String, String> sharedContext = new HashMap<>();
+        sharedContext.put(LAST_INDEXED_AT_KEY, catchUpFrom);
+        sharedContext.put(INDEX_NAME_KEY, targetIndex);
+
+        LocalDateTime from = LocalDateTime.parse(catchUpFrom, ISO_LOCAL_DATE_TIME);
+        return new IdRangePartitioner(jdbcTemplate, ID_RANGE_SQL, sharedContext, from, from);
+    }
+
+    /**
+     * 게시글 내용이 바뀐 행뿐 아니라 좋아요 수, 댓글 수, 조회수만 바뀐 행도 읽습니다. 카운터만 바뀐 게시글은 updated_at이 그대로이므로
+     * counters_updated_at으로 찾습니다.
+     *
+     * @param lastIndexedAtStr - 이 시각 이후 변경된 게시글만 읽습니다.
+     * @param minId            - 파티션의 최소 게시글 ID
+     * @param maxId            - 파티션의 최대 게시글 ID
+     * @return 게시글 리더
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<PostDto> postRebuildJdbcPagingItemReader(
+            @Value("#{stepExecutionContext['lastIndexedAt']}") final String lastIndexedAtStr,
+            @Value("#{stepExecutionContext['minId']}") final Long minId,
+            @Value("#{stepExecutionContext['maxId']}") final Long maxId
+    ) {
+        Map<String, Object> parameterValues = new HashMap<>();
+        parameterValues.put("lastIndexedAt", LocalDateTime.parse(lastIndexedAtStr, ISO_LOCAL_DATE_TIME));
+        parameterValues.put("minId", minId);
+        parameterValues.put("maxId", maxId);
+
+        return new JdbcPagingItemReaderBuilder<PostDto>()
+                .name("postRebuildJdbcPagingItemReader")
+                .dataSource(dataSource)
+                .queryProvider(pagingQueryProvider)
+                .parameterValues(parameterValues)
+                .pageSize(CHUNK_SIZE)
+                .rowMapper(new PostDtoRowMapper())
+                .build();
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * catchUpFrom 이후 변경된 게시글을 ID 구간별로 나누어 대상 인덱스에 적재하는 스텝을 만듭니다. 스텝이 끝나면 다음 스텝이 이 스텝의 시작
+     * 시각부터 다시 적재하도록 catchUpFrom을 옮깁니다. 커밋 지연과 서버 간 시각 차이를 고려해 시작 시각보다 조금 앞에서부터 적재합니다.
+     * 카운터만 바뀐 게시글도 counters_updated_at으로 찾아 다시 적재합니다.
+     *
+     * @param name - 스텝 이름
+     * @return 파티션 관리 스텝
+     */
+    private Step loadPass(final String name) {
+        Step workerStep = stepBuilderFactory.get(name + "Worker")
+                                            .<PostDto, PostDocument>chunk(CHUNK_SIZE)
+                                            .reader(postRebuildJdbcPagingItemReader(null, null, null))
+                                            .processor(postDtoToPostDocumentItemProcessor)
+                                            .writer(postDocumentItemWriter)
+                                            .build();
+
+        return stepBuilderFactory.get(name)
+                                 .listener(new StepExecutionListener() {
+                                     @Override
+                                     public void beforeStep(final StepExecution stepExecution) {
+                                         ExecutionContext context = stepExecution.getExecutionContext();
+                                         if (!context.containsKey(PASS_STARTED_AT_KEY))
+                                             context.putString(
+                                                     PASS_STARTED_AT_KEY,
+                                                     LocalDateTime.now()
+                                                                  .minusSeconds(CATCH_UP_MARGIN_SECS)
+                                                                  .format(ISO_LOCAL_DATE_TIME)
+                                             );
+                                     }
+
+                                     @Override
+                                     public ExitStatus afterStep(final StepExecution stepExecution) {
+                                         if (ExitStatus.COMPLETED.equals(stepExecution.getExitStatus()))
+                                             getJobContext(stepExecution).putString(
+                                                     CATCH_UP_FROM_KEY,
+                                                     stepExecution.getExecutionContext().getString(PASS_STARTED_AT_KEY)
+                                             );
+                                         return stepExecution.getExitStatus();
+                                     }
+                                 })
+                                 .partitioner(workerStep.getName(), postIndexRebuildPartitioner(null, null))
+                                 .step(workerStep)
+                                 .gridSize(gridSize)
+                                 .taskExecutor(postMigrationExecutor)
+                                 .build();
+    }
+
+    private ExecutionContext getJobContext(final StepExecution stepExecution) {
+        return stepExecution.getJobExecution().getExecutionContext();
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.example.demo.infra.elasticsearch.post.config;
 
+import static com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper.FROM_CLAUSE;
+import static com.example.demo.infra.elasticsearch.post.dao.PostDtoRowMapper.SELECT_CLAUSE;
+
 import javax.sql.DataSource;
 import org.springframework.batch.item.database.PagingQueryProvider;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
@@ -31,27 +34,31 @@ public class PostQueryProviderConfig {
     public PagingQueryProvider postPagingQueryProvider() throws Exception {
         SqlPagingQueryProviderFactoryBean provider = new SqlPagingQueryProviderFactoryBean();
         provider.setDataSource(dataSource);
-        provider.setSelectClause(
-                "SELECT" +
-                " P.post_id AS post_id," +
-                " P.member_id AS member_id," +
-                " M.nickname AS nickname," +
-                " P.title AS title," +
-                " P.content AS content," +
-                " P.view_count AS view_count," +
-                " P.like_count AS like_count," +
-                " P.is_deleted AS is_deleted," +
-                //" (SELECT COUNT(C.comment_id) FROM comments AS C WHERE C.post_id = P.post_id) AS comment_count," +
-                " P.comment_count AS comment_count," +
-                " P.created_at AS created_at," +
-                " P.updated_at AS updated_at"
-        );
-        provider.setFromClause(
-                "FROM posts AS P" +
-                " JOIN members AS M ON P.member_id = M.member_id"
+        provider.setSelectClause(SELECT_CLAUSE);
+        provider.setFromClause(FROM_CLAUSE);
+        provider.setWhereClause(
+                "WHERE P.updated_at > :lastIndexedAt" +
+                " AND P.post_id BETWEEN :minId AND :maxId"
         );
+        provider.setSortKey("post_id");
+        return provider.getObject();
+    }
+
+    /**
+     * 인덱스 재구성의 따라잡기 단계에서 사용할 쿼리입니다. 좋아요 수, 댓글 수, 조회수만 바뀐 게시글은 updated_at이 그대로이므로
+     * counters_updated_at도 함께 비교합니다.
+     *
+     * @return 페이징 쿼리 제공자
+     */
+    @Bean
+    public PagingQueryProvider postRebuildPagingQueryProvider() throws Exception {
+        SqlPagingQueryProviderFactoryBean provider = new SqlPagingQueryProviderFactoryBean();
+        provider.setDataSource(dataSource);
+        provider.setSelectClause(SELECT_CLAUSE);
+        provider.setFromClause(FROM_CLAUSE);
         provider.setWhereClause(
-                "WHERE P.updated_at > :lastIndexedAt"
+                "WHERE (P.updated_at > :lastIndexedAt OR P.counters_updated_at > :lastIndexedAt)" +
+                " AND P.post_id BETWEEN :minId AND :maxId"
         );
         provider.setSortKey("post_id");
         return provider.getObject();
@@ -0,0 +1,25 @@
+package com.example.demo.infra.elasticsearch.post.constant;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.constant
+ * FileName    : PostIndexConst
+ * Author      : oldolgol331
+ * Date        : 25. 9. 25.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 25.    oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+public class PostIndexConst {
+
+    public static final String POST_READ_ALIAS   = "posts";
+    public static final String POST_WRITE_ALIAS  = "posts_write";
+    public static final String POST_INDEX_PREFIX = "posts_v";
+
+}
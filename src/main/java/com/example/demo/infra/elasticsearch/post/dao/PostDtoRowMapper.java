@@ -0,0 +1,66 @@
+package com.example.demo.infra.elasticsearch.post.dao;
+
+import com.example.demo.domain.post.model.PostDto;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.dao
+ * FileName    : PostDtoRowMapper
+ * Author      : oldolgol331
+ * Date        : 25. 9. 26.
+ * Description : 게시글 색인용 조회 결과를 PostDto로 변환
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 26.    oldolgol331          Initial creation
+ */
+@Slf4j
+public class PostDtoRowMapper implements RowMapper<PostDto> {
+
+    public static final String SELECT_CLAUSE = "SELECT" +
+                                               " P.post_id AS post_id," +
+                                               " P.member_id AS member_id," +
+                                               " M.nickname AS nickname," +
+                                               " P.title AS title," +
+                                               " P.content AS content," +
+                                               " P.view_count AS view_count," +
+                                               " P.like_count AS like_count," +
+                                               " P.is_deleted AS is_deleted," +
+                                               " P.comment_count AS comment_count," +
+                                               " P.created_at AS created_at," +
+                                               " P.updated_at AS updated_at";
+    public static final String FROM_CLAUSE   = "FROM posts AS P" +
+                                               " JOIN members AS M ON P.member_id = M.member_id";
+
+    @Override
+    public PostDto mapRow(final ResultSet rs, final int rowNum) {
+        try {
+            return PostDto.builder()
+                          .id(rs.getLong("post_id"))
+                          .writerId(rs.getObject("member_id", UUID.class))
+                          .writer(rs.getString("nickname"))
+                          .title(rs.getString("title"))
+                          .content(rs.getString("content"))
+                          .viewCount(rs.getLong("view_count"))
+                          .likeCount(rs.getInt("like_count"))
+                          .isDeleted(rs.getBoolean("is_deleted"))
+                          .commentCount(rs.getInt("comment_count"))
+                          .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                          .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                          .build();
+        } catch (SQLException e) {
+            long errorId = -1;
+            try {
+                errorId = rs.getLong("post_id");
+            } catch (SQLException ignored) {}
+            log.error("FAILED TO MAP ROW to PostDto. ID: {}", errorId, e);
+            throw new DataIntegrityViolationException("Failed to map row #" + rowNum + " with ID: " + errorId, e);
+        }
+    }
+
+}
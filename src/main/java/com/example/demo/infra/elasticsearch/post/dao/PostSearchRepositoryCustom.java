@@ -1,12 +1,15 @@
 package com.example.demo.infra.elasticsearch.post.dao;
 
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
+import com.example.demo.domain.post.model.PostCursor;
 import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * PackageName : com.example.demo.infra.elasticsearch.post.dao
@@ -23,10 +26,20 @@ public interface PostSearchRepositoryCustom {
 
     Page<PostListResponse> getPosts(String keyword, Pageable pageable);
 
+    Page<PostListResponse> getPosts(String keyword, Pageable pageable, int trackTotalHitsUpTo);
+
+    Slice<PostListResponse> getPostsByCursor(String keyword, PostCursor cursor, int size);
+
     Optional<Long> findViewCountById(Long postId);
 
     Map<Long, PostCountDto> findCountsById(List<Long> postIds);
 
     long countByKeyword(String keyword);
 
+    long countByKeyword(String keyword, int trackTotalHitsUpTo);
+
+    void index(PostDocument document);
+
+    void deleteFromIndex(Long postId);
+
 }
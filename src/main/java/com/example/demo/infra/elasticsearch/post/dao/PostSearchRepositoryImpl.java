@@ -1,8 +1,14 @@
 package com.example.demo.infra.elasticsearch.post.dao;
 
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_READ_ALIAS;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
+
 import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
+import com.example.demo.domain.post.model.PostCursor;
 import com.example.demo.domain.post.service.PostCountServiceImpl.PostCountDto;
 import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -11,10 +17,14 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
 import org.springframework.data.elasticsearch.core.SearchHit;
@@ -54,6 +64,20 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
      */
     @Override
     public Page<PostListResponse> getPosts(final String keyword, final Pageable pageable) {
+        return getPosts(keyword, pageable, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 검색된 게시글 목록을 반환합니다. 목록에 필요한 카운트 필드와 전체 게시글 수를 한 번의 검색 요청으로 함께 조회하며, 목록에 사용하지 않는 본문은
+     * 조회하지 않습니다. 전체 게시글 수는 trackTotalHitsUpTo까지만 정확히 셉니다.
+     *
+     * @param keyword            - 검색어
+     * @param pageable           - 페이징 정보
+     * @param trackTotalHitsUpTo - 정확히 셀 최대 게시글 수
+     * @return 게시글 페이징 목록 응답 DTO
+     */
+    @Override
+    public Page<PostListResponse> getPosts(final String keyword, final Pageable pageable, final int trackTotalHitsUpTo) {
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
 
         if (StringUtils.hasText(keyword))
@@ -63,54 +87,69 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
             );
 
         Query query = new NativeSearchQueryBuilder().withQuery(boolQueryBuilder)
+                                                    .withSourceFilter(new FetchSourceFilter(null, new String[]{"content"}))
                                                     .withPageable(pageable)
                                                     .build();
+        query.setTrackTotalHitsUpTo(trackTotalHitsUpTo);
 
         SearchHits<PostDocument> searchHits = elasticsearchRestTemplate.search(
-                query, PostDocument.class, IndexCoordinates.of("posts")
+                query, PostDocument.class, IndexCoordinates.of(POST_READ_ALIAS)
         );
 
         List<PostListResponse> content = searchHits.getSearchHits()
                                                    .stream()
                                                    .map(SearchHit::getContent)
-                                                   .map(
-                                                           postDocument -> PostListResponse.builder()
-                                                                                           .id(Long.parseLong(
-                                                                                                   postDocument.getId()
-                                                                                           ))
-                                                                                           .writerId(
-                                                                                                   postDocument.getWriterId()
-                                                                                           )
-                                                                                           .writer(postDocument.getWriter())
-                                                                                           .title(postDocument.getTitle())
-                                                                                           //.viewCount(
-                                                                                           //        postDocument
-                                                                                           //        .getViewCount()
-                                                                                           //)
-                                                                                           //.likeCount(
-                                                                                           //        postDocument
-                                                                                           //        .getLikeCount()
-                                                                                           //)
-                                                                                           .isDeleted(
-                                                                                                   postDocument.getIsDeleted()
-                                                                                           )
-                                                                                           .createdAt(
-                                                                                                   postDocument.getCreatedAt()
-                                                                                           )
-                                                                                           .updatedAt(
-                                                                                                   postDocument.getUpdatedAt()
-                                                                                           )
-                                                                                           //.commentCount(
-                                                                                           //        postDocument
-                                                                                           //        .getCommentCount()
-                                                                                           //)
-                                                                                           .build()
-                                                   )
+                                                   .map(this::toPostListResponse)
                                                    .collect(Collectors.toList());
 
         return new PageImpl<>(content, pageable, searchHits.getTotalHits());
     }
 
+    /**
+     * 커서 이후의 게시글 목록을 최신순으로 조회합니다. from/size 대신 (생성 일시, ID) 정렬 값에 대한 search_after를 사용하므로 조회 위치가
+     * 깊어져도 비용이 일정하고 max_result_window 제한을 받지 않습니다.
+     *
+     * @param keyword - 검색어
+     * @param cursor  - 마지막으로 조회한 게시글 커서, 첫 조회일 경우 null
+     * @param size    - 조회 개수
+     * @return 게시글 슬라이스 목록 응답 DTO
+     */
+    @Override
+    public Slice<PostListResponse> getPostsByCursor(final String keyword, final PostCursor cursor, final int size) {
+        BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
+
+        if (StringUtils.hasText(keyword))
+            boolQueryBuilder.must(
+                    QueryBuilders.multiMatchQuery(keyword, "title", "content")
+                                 .fields(Collections.singletonMap("title", 3.0f))
+            );
+
+        Query query = new NativeSearchQueryBuilder().withQuery(boolQueryBuilder)
+                                                    .withSort(SortBuilders.fieldSort("createdAt").order(SortOrder.DESC))
+                                                    .withSort(SortBuilders.fieldSort("id").order(SortOrder.DESC))
+                                                    .withSourceFilter(new FetchSourceFilter(null, new String[]{"content"}))
+                                                    .withPageable(PageRequest.of(0, size + 1))
+                                                    .withTrackTotalHits(false)
+                                                    .build();
+
+        if (cursor != null) query.setSearchAfter(Arrays.asList(cursor.getCreatedAtEpochMillis(), cursor.getId()));
+
+        SearchHits<PostDocument> searchHits = elasticsearchRestTemplate.search(
+                query, PostDocument.class, IndexCoordinates.of(POST_READ_ALIAS)
+        );
+
+        List<PostListResponse> content = searchHits.getSearchHits()
+                                                   .stream()
+                                                   .map(SearchHit::getContent)
+                                                   .map(this::toPostListResponse)
+                                                   .collect(Collectors.toCollection(ArrayList::new));
+
+        boolean hasNext = content.size() > size;
+        if (hasNext) content.remove(size);
+
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
     /**
      * 게시글의 조회수를 조회합니다.
      *
@@ -126,7 +165,7 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
                                                     .build();
 
         SearchHit<PostDocument> searchHit = elasticsearchRestTemplate.searchOne(
-                query, PostDocument.class, IndexCoordinates.of("posts")
+                query, PostDocument.class, IndexCoordinates.of(POST_READ_ALIAS)
         );
 
         if (searchHit == null) return Optional.empty();
@@ -135,16 +174,16 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
     }
 
     /**
-     * 게시글의 좋아요 수, 댓글 수를 조회합니다.
+     * 게시글의 조회수, 좋아요 수, 댓글 수를 조회합니다.
      *
      * @param postIds - 게시글 ID 목록
-     * @return 게시글 ID와 좋아요 수, 댓글 수를 포함한 DTO
+     * @return 게시글 ID와 조회수, 좋아요 수, 댓글 수를 포함한 DTO
      */
     @Override
     public Map<Long, PostCountDto> findCountsById(final List<Long> postIds) {
         if (postIds == null || postIds.isEmpty()) return Collections.emptyMap();
 
-        SourceFilter sourceFilter = new FetchSourceFilter(new String[]{"likeCount", "commentCount"}, null);
+        SourceFilter sourceFilter = new FetchSourceFilter(new String[]{"viewCount", "likeCount", "commentCount"}, null);
 
         Query query = new NativeSearchQueryBuilder().withQuery(
                                                             QueryBuilders.idsQuery()
@@ -159,7 +198,7 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
                                                     .build();
 
         SearchHits<PostDocument> searchHits = elasticsearchRestTemplate.search(
-                query, PostDocument.class, IndexCoordinates.of("posts")
+                query, PostDocument.class, IndexCoordinates.of(POST_READ_ALIAS)
         );
 
         return searchHits.getSearchHits()
@@ -167,7 +206,11 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
                          .map(SearchHit::getContent)
                          .collect(Collectors.toMap(
                                  doc -> Long.parseLong(doc.getId()),
-                                 doc -> PostCountDto.of(0L, doc.getLikeCount(), doc.getCommentCount())
+                                 doc -> PostCountDto.of(
+                                         doc.getViewCount() != null ? doc.getViewCount() : 0L,
+                                         doc.getLikeCount() != null ? doc.getLikeCount() : 0,
+                                         doc.getCommentCount() != null ? doc.getCommentCount() : 0
+                                 )
                          ));
     }
 
@@ -192,4 +235,68 @@ public class PostSearchRepositoryImpl implements PostSearchRepositoryCustom {
         return elasticsearchOperations.count(query, PostDocument.class);
     }
 
+    /**
+     * 게시글 개수를 근사치로 검색합니다. 검색 결과가 trackTotalHitsUpTo를 넘으면 정확한 개수를 세지 않고 trackTotalHitsUpTo를 반환합니다.
+     *
+     * @param keyword            - 검색어
+     * @param trackTotalHitsUpTo - 정확히 셀 최대 게시글 수
+     * @return 게시글 수, 최대 trackTotalHitsUpTo
+     */
+    @Override
+    public long countByKeyword(final String keyword, final int trackTotalHitsUpTo) {
+        BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
+
+        if (StringUtils.hasText(keyword))
+            boolQueryBuilder.must(
+                    QueryBuilders.multiMatchQuery(keyword, "title", "content")
+                                 .fields(Collections.singletonMap("title", 3.0f))
+            );
+
+        Query query = new NativeSearchQueryBuilder().withQuery(boolQueryBuilder)
+                                                    .withSourceFilter(new FetchSourceFilter(null, new String[]{"*"}))
+                                                    .withPageable(PageRequest.of(0, 1))
+                                                    .build();
+        query.setTrackTotalHitsUpTo(trackTotalHitsUpTo);
+
+        return elasticsearchRestTemplate.search(query, PostDocument.class, IndexCoordinates.of(POST_READ_ALIAS))
+                                        .getTotalHits();
+    }
+
+    /**
+     * 게시글 문서를 쓰기 별칭이 가리키는 인덱스에 저장합니다.
+     *
+     * @param document - 게시글 문서
+     */
+    @Override
+    public void index(final PostDocument document) {
+        elasticsearchRestTemplate.save(document, IndexCoordinates.of(POST_WRITE_ALIAS));
+    }
+
+    /**
+     * 게시글 문서를 쓰기 별칭이 가리키는 인덱스에서 삭제합니다.
+     *
+     * @param postId - 게시글 ID
+     */
+    @Override
+    public void deleteFromIndex(final Long postId) {
+        elasticsearchRestTemplate.delete(String.valueOf(postId), IndexCoordinates.of(POST_WRITE_ALIAS));
+    }
+
+    // ========================= Private Methods =========================
+
+    private PostListResponse toPostListResponse(final PostDocument postDocument) {
+        return PostListResponse.builder()
+                               .id(Long.parseLong(postDocument.getId()))
+                               .writerId(postDocument.getWriterId())
+                               .writer(postDocument.getWriter())
+                               .title(postDocument.getTitle())
+                               .viewCount(postDocument.getViewCount())
+                               .likeCount(postDocument.getLikeCount())
+                               .isDeleted(postDocument.getIsDeleted())
+                               .createdAt(postDocument.getCreatedAt())
+                               .updatedAt(postDocument.getUpdatedAt())
+                               .commentCount(postDocument.getCommentCount())
+                               .build();
+    }
+
 }
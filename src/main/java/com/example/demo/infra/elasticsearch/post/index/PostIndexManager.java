@@ -0,0 +1,202 @@
+package com.example.demo.infra.elasticsearch.post.index;
+
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_INDEX_PREFIX;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_READ_ALIAS;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
+
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
+import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.common.settings.Settings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.index
+ * FileName    : PostIndexManager
+ * Author      : oldolgol331
+ * Date        : 25. 9. 25.
+ * Description : 버전이 붙은 게시글 인덱스(posts_v{n})와 읽기/쓰기 별칭을 관리
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 25.    oldolgol331          Initial creation
+ */
+@Component
+@Slf4j
+public class PostIndexManager {
+
+    private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+    private static final String REPLICAS_SETTING         = "index.number_of_replicas";
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+
+    private final RestHighLevelClient       restHighLevelClient;
+    private final ElasticsearchRestTemplate elasticsearchRestTemplate;
+    private final int                       replicas;
+
+    public PostIndexManager(
+            final RestHighLevelClient restHighLevelClient,
+            final ElasticsearchRestTemplate elasticsearchRestTemplate,
+            @Value("${post.index.replicas:1}") final int replicas
+    ) {
+        this.restHighLevelClient = restHighLevelClient;
+        this.elasticsearchRestTemplate = elasticsearchRestTemplate;
+        this.replicas = replicas;
+    }
+
+    /**
+     * 읽기/쓰기 별칭이 없으면 만듭니다. 별칭 도입 이전에 만들어진 posts 인덱스가 있으면 그 인덱스에 쓰기 별칭만 추가하고, 다음 재색인 때 별칭으로
+     * 교체합니다. 인덱스가 전혀 없으면 첫 버전 인덱스를 만들어 두 별칭을 연결합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeAliases() {
+        try {
+            if (!getAliasedIndices(POST_WRITE_ALIAS).isEmpty()) return;
+
+            if (exists(POST_READ_ALIAS)) {
+                Set<String> readIndices = getAliasedIndices(POST_READ_ALIAS);
+                String      target      = readIndices.isEmpty() ? POST_READ_ALIAS : readIndices.iterator().next();
+                updateAliases(new IndicesAliasesRequest().addAliasAction(
+                        AliasActions.add().index(target).alias(POST_WRITE_ALIAS)
+                ));
+                log.info("Attached write alias '{}' to existing index '{}'", POST_WRITE_ALIAS, target);
+                return;
+            }
+
+            String index = createIndex(POST_INDEX_PREFIX + 1, false);
+            updateAliases(
+                    new IndicesAliasesRequest().addAliasAction(AliasActions.add().index(index).alias(POST_READ_ALIAS))
+                                               .addAliasAction(AliasActions.add().index(index).alias(POST_WRITE_ALIAS))
+            );
+            log.info("Created index '{}' behind aliases '{}' and '{}'", index, POST_READ_ALIAS, POST_WRITE_ALIAS);
+        } catch (RuntimeException e) {
+            log.error("Failed to initialize post index aliases", e);
+        }
+    }
+
+    /**
+     * 현재 가장 높은 버전 다음 번호로 새 인덱스를 만듭니다. 대량 적재 동안에는 새로 고침과 복제본을 끄고 만듭니다.
+     *
+     * @return 새 인덱스 이름
+     */
+    public String createNextIndex() {
+        int latest = 0;
+        try {
+            GetIndexRequest request = new GetIndexRequest(POST_INDEX_PREFIX + "*");
+            String[]        indices = restHighLevelClient.indices().get(request, RequestOptions.DEFAULT).getIndices();
+            for (String index : indices) {
+                String version = index.substring(POST_INDEX_PREFIX.length());
+                if (version.chars().allMatch(Character::isDigit))
+                    latest = Math.max(latest, Integer.parseInt(version));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return createIndex(POST_INDEX_PREFIX + (latest + 1), true);
+    }
+
+    /**
+     * 대량 적재가 끝난 인덱스의 새로 고침 주기와 복제본 수를 되돌리고, 검색 가능한 상태로 새로 고칩니다.
+     *
+     * @param index - 인덱스 이름
+     */
+    public void prepareForSearch(final String index) {
+        try {
+            Settings settings = Settings.builder()
+                                        .put(REFRESH_INTERVAL_SETTING, DEFAULT_REFRESH_INTERVAL)
+                                        .put(REPLICAS_SETTING, replicas)
+                                        .build();
+            restHighLevelClient.indices().putSettings(
+                    new UpdateSettingsRequest(index).settings(settings), RequestOptions.DEFAULT
+            );
+            restHighLevelClient.indices().refresh(new RefreshRequest(index), RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 읽기/쓰기 별칭을 한 번의 요청으로 새 인덱스로 옮깁니다. 별칭 도입 이전의 posts 인덱스는 같은 요청에서 삭제해 그 이름을 읽기 별칭으로
+     * 넘깁니다. 이전 버전 인덱스는 되돌릴 수 있도록 남겨 둡니다.
+     *
+     * @param index - 새 인덱스 이름
+     */
+    public void switchAliases(final String index) {
+        IndicesAliasesRequest request = new IndicesAliasesRequest();
+
+        Set<String> readIndices = getAliasedIndices(POST_READ_ALIAS);
+        if (readIndices.isEmpty() && exists(POST_READ_ALIAS)) {
+            request.addAliasAction(AliasActions.removeIndex().index(POST_READ_ALIAS));
+        } else {
+            for (String readIndex : readIndices)
+                request.addAliasAction(AliasActions.remove().index(readIndex).alias(POST_READ_ALIAS));
+            for (String writeIndex : getAliasedIndices(POST_WRITE_ALIAS))
+                request.addAliasAction(AliasActions.remove().index(writeIndex).alias(POST_WRITE_ALIAS));
+        }
+        request.addAliasAction(AliasActions.add().index(index).alias(POST_READ_ALIAS))
+               .addAliasAction(AliasActions.add().index(index).alias(POST_WRITE_ALIAS));
+
+        updateAliases(request);
+        log.info("Switched post read/write aliases from {} to '{}'", readIndices, index);
+    }
+
+    // ========================= Private Methods =========================
+
+    private String createIndex(final String index, final boolean bulkLoading) {
+        Settings settings = Settings.builder()
+                                    .put(REFRESH_INTERVAL_SETTING, bulkLoading ? "-1" : DEFAULT_REFRESH_INTERVAL)
+                                    .put(REPLICAS_SETTING, bulkLoading ? 0 : replicas)
+                                    .build();
+        Map<String, Object> mapping = elasticsearchRestTemplate.indexOps(PostDocument.class).createMapping();
+        CreateIndexRequest  request = new CreateIndexRequest(index).settings(settings).mapping(mapping);
+        try {
+            restHighLevelClient.indices().create(request, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return index;
+    }
+
+    private boolean exists(final String name) {
+        try {
+            return restHighLevelClient.indices().exists(new GetIndexRequest(name), RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Set<String> getAliasedIndices(final String alias) {
+        try {
+            return restHighLevelClient.indices()
+                                      .getAlias(new GetAliasesRequest(alias), RequestOptions.DEFAULT)
+                                      .getAliases()
+                                      .keySet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void updateAliases(final IndicesAliasesRequest request) {
+        try {
+            restHighLevelClient.indices().updateAliases(request, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.demo.infra.elasticsearch.post.model;
 
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_READ_ALIAS;
 import static lombok.AccessLevel.PRIVATE;
 import static org.springframework.data.elasticsearch.annotations.FieldType.Binary;
 import static org.springframework.data.elasticsearch.annotations.FieldType.Date;
@@ -30,7 +31,7 @@ import org.springframework.data.elasticsearch.annotations.FieldType;
  * ---------------------------------------------------------------------------------------------------------------------
  * 25. 8. 27.    oldolgol331          Initial creation
  */
-@Document(indexName = "posts", createIndex = true)
+@Document(indexName = POST_READ_ALIAS, createIndex = false)
 @Getter
 @RequiredArgsConstructor(access = PRIVATE)
 @Builder(access = PRIVATE)
@@ -81,7 +82,7 @@ public class PostDocument extends ElasticsearchDocument {
                            .isDeleted(post.getIsDeleted())
                            .createdAt(post.getCreatedAt())
                            .updatedAt(post.getUpdatedAt())
-                           .commentCount(post.getComments().size())
+                           .commentCount(post.getCommentCount())
                            .build();
     }
 
@@ -0,0 +1,54 @@
+package com.example.demo.infra.redis.cache;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : CacheEntry
+ * Author      : oldolgol331
+ * Date        : 25. 9. 14.
+ * Description : 캐시 값과 논리적 만료 시각, 적재에 걸린 시간을 함께 저장하는 캐시 항목
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 14.    oldolgol331          Initial creation
+ */
+@Getter
+public class CacheEntry {
+
+    private final Object value;
+    private final long   expiresAt;
+    private final long   loadMillis;
+
+    @JsonCreator
+    public CacheEntry(
+            @JsonProperty("value") final Object value,
+            @JsonProperty("expiresAt") final long expiresAt,
+            @JsonProperty("loadMillis") final long loadMillis
+    ) {
+        this.value = value;
+        this.expiresAt = expiresAt;
+        this.loadMillis = loadMillis;
+    }
+
+    public static CacheEntry of(final Object value, final long expiresAt, final long loadMillis) {
+        return new CacheEntry(value, expiresAt, loadMillis);
+    }
+
+    /**
+     * 항목을 미리 갱신해야 하는지 확률적으로 판단합니다(XFetch). 만료 시각에 가까울수록, 적재에 오래 걸린 항목일수록 갱신 확률이 높아지며, 논리적
+     * 만료 시각이 지난 항목은 항상 갱신 대상입니다.
+     *
+     * @param now  - 현재 시각(epoch millis)
+     * @param beta - 미리 갱신하는 정도, 클수록 일찍 갱신
+     * @return 갱신해야 하는 경우 true, 그렇지 않으면 false
+     */
+    public boolean shouldRefresh(final long now, final double beta) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        return now - loadMillis * beta * Math.log(random == 0 ? Double.MIN_VALUE : random) >= expiresAt;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.example.demo.infra.redis.cache;
+
+import com.example.demo.infra.redis.dao.RedisRepository;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : CacheGenerationManager
+ * Author      : oldolgol331
+ * Date        : 25. 9. 11.
+ * Description : 캐시 키 네임스페이스별 세대(generation) 번호를 관리합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 11.    oldolgol331          Initial creation
+ */
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+public class CacheGenerationManager {
+
+    private static final String GENERATION_KEY_PREFIX   = "cache:generation:%s";
+    private static final long   REFRESH_INTERVAL_MILLIS = 1000L;
+
+    private final Map<String, Generation> generations = new ConcurrentHashMap<>();
+
+    private final RedisRepository redisRepository;
+
+    /**
+     * 네임스페이스의 현재 세대 번호를 조회합니다. 매 조회마다 Redis를 호출하지 않도록 로컬에 보관한 값을 일정 주기로만 갱신합니다.
+     *
+     * @param namespace - 네임스페이스
+     * @return 현재 세대 번호
+     */
+    public long getGeneration(final String namespace) {
+        long       now        = System.currentTimeMillis();
+        Generation generation = generations.get(namespace);
+        if (generation != null && now - generation.loadedAt < REFRESH_INTERVAL_MILLIS) return generation.value;
+
+        long value = redisRepository.getValue(String.format(GENERATION_KEY_PREFIX, namespace), Long.class).orElse(0L);
+        generations.put(namespace, new Generation(value, now));
+        return value;
+    }
+
+    /**
+     * 네임스페이스의 세대 번호를 증가시킵니다. 이전 세대의 캐시 키는 더 이상 조회되지 않으며 TTL에 의해 만료됩니다.
+     *
+     * @param namespace - 네임스페이스
+     * @return 증가된 세대 번호
+     */
+    public long increaseGeneration(final String namespace) {
+        long value = redisRepository.increment(String.format(GENERATION_KEY_PREFIX, namespace));
+        generations.put(namespace, new Generation(value, System.currentTimeMillis()));
+        return value;
+    }
+
+    private static class Generation {
+
+        private final long value;
+        private final long loadedAt;
+
+        private Generation(final long value, final long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.example.demo.infra.redis.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : RefreshAheadCache
+ * Author      : oldolgol331
+ * Date        : 25. 9. 14.
+ * Description : 논리적 만료 이후에도 물리적 TTL 동안 이전 값을 반환하면서 백그라운드에서 갱신하는(stale-while-revalidate) 캐시
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 14.    oldolgol331          Initial creation
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final Cache        delegate;
+    private final Duration     freshTtl;
+    private final double       beta;
+    private final TaskExecutor refreshExecutor;
+
+    public RefreshAheadCache(
+            final Cache delegate, final Duration freshTtl, final double beta, final TaskExecutor refreshExecutor
+    ) {
+        this.delegate = delegate;
+        this.freshTtl = freshTtl;
+        this.beta = beta;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(final Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper != null ? new SimpleValueWrapper(unwrap(wrapper.get())) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Class<T> type) {
+        Object value = unwrap(delegate.get(key, Object.class));
+        if (value != null && type != null && !type.isInstance(value))
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value
+            );
+        return (T) value;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 논리적으로 만료됐거나 확률적으로 갱신 대상이면 백그라운드에서 값을 다시 적재합니다. 캐시된 값이 없을 때만 호출 스레드에서
+     * 적재합니다.
+     *
+     * @param key         - 캐시 키
+     * @param valueLoader - 값 적재 함수
+     * @return 캐시된 값 또는 적재한 값
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null && wrapper.get() instanceof CacheEntry) {
+            CacheEntry entry = (CacheEntry) wrapper.get();
+            if (entry.shouldRefresh(System.currentTimeMillis(), beta)) refreshAsync(key, valueLoader);
+            return (T) entry.getValue();
+        }
+
+        return (T) unwrap(delegate.get(key, () -> load(valueLoader)));
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        delegate.put(key, CacheEntry.of(value, System.currentTimeMillis() + freshTtl.toMillis(), 0L));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(
+                key, CacheEntry.of(value, System.currentTimeMillis() + freshTtl.toMillis(), 0L)
+        );
+        return existing != null ? new SimpleValueWrapper(unwrap(existing.get())) : null;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(final Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 값을 적재하고 적재에 걸린 시간과 논리적 만료 시각을 함께 기록합니다.
+     *
+     * @param valueLoader - 값 적재 함수
+     * @return 캐시 항목
+     */
+    private CacheEntry load(final Callable<?> valueLoader) throws Exception {
+        long   startedAt = System.currentTimeMillis();
+        Object value     = valueLoader.call();
+        long   now       = System.currentTimeMillis();
+        return CacheEntry.of(value, now + freshTtl.toMillis(), now - startedAt);
+    }
+
+    /**
+     * 키마다 노드 내에서 하나의 갱신 작업만 백그라운드로 실행합니다. 갱신한 값은 위임 캐시의 put으로 저장하므로, L1 캐시가 적용된 경우 다른
+     * 노드의 L1 캐시 무효화 메시지도 함께 발행됩니다.
+     *
+     * @param key         - 캐시 키
+     * @param valueLoader - 값 적재 함수
+     */
+    private void refreshAsync(final Object key, final Callable<?> valueLoader) {
+        if (!refreshingKeys.add(key)) return;
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    delegate.put(key, load(valueLoader));
+                } catch (Exception e) {
+                    log.warn("Failed to refresh cache entry. cache: {}, key: {}", getName(), key, e);
+                } finally {
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshingKeys.remove(key);
+        }
+    }
+
+    private Object unwrap(final Object value) {
+        return value instanceof CacheEntry ? ((CacheEntry) value).getValue() : value;
+    }
+
+}
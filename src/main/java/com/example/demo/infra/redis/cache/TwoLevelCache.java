@@ -0,0 +1,208 @@
+package com.example.demo.infra.redis.cache;
+
+import com.example.demo.infra.redis.config.properties.NearCacheProperties;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : TwoLevelCache
+ * Author      : oldolgol331
+ * Date        : 25. 9. 10.
+ * Description : JVM 내부 L1(Caffeine) 캐시와 Redis L2 캐시를 함께 사용하는 캐시
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 10.    oldolgol331          Initial creation
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String LOCK_KEY_PREFIX = "lock:cache:%s:%s";
+
+    private final Map<Object, CompletableFuture<Object>> loadingFutures = new ConcurrentHashMap<>();
+
+    private final String                                                 name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache                                                  remoteCache;
+    private final TwoLevelCacheManager                                   cacheManager;
+    private final RedissonClient                                         redissonClient;
+    private final NearCacheProperties.Spec                               spec;
+
+    public TwoLevelCache(
+            final String name,
+            final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+            final Cache remoteCache,
+            final TwoLevelCacheManager cacheManager,
+            final RedissonClient redissonClient,
+            final NearCacheProperties.Spec spec
+    ) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.cacheManager = cacheManager;
+        this.redissonClient = redissonClient;
+        this.spec = spec;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    /**
+     * L1 캐시를 먼저 조회하고, 없을 경우 L2(Redis) 캐시를 조회한 뒤 L1 캐시에 적재합니다.
+     *
+     * @param key - 캐시 키
+     * @return 저장된 값, 없으면 null
+     */
+    @Override
+    protected Object lookup(final Object key) {
+        Object storeValue = localCache.getIfPresent(key);
+        if (storeValue != null) return storeValue;
+
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) return null;
+
+        storeValue = toStoreValue(wrapper.get());
+        localCache.put(key, storeValue);
+        return storeValue;
+    }
+
+    /**
+     * 캐시에 값이 없을 경우 키마다 노드 내에서 한 번만 값을 적재하고, 동시에 요청한 다른 호출은 같은 적재 결과를 기다립니다. 분산 락이 설정된
+     * 경우 노드 간에도 한 노드만 적재하도록 짧은 락을 사용합니다.
+     *
+     * @param key         - 캐시 키
+     * @param valueLoader - 값 적재 함수
+     * @return 캐시된 값 또는 적재한 값
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Object key, final Callable<T> valueLoader) {
+        Object storeValue = lookup(key);
+        if (storeValue != null) return (T) fromStoreValue(storeValue);
+
+        CompletableFuture<Object> loadingFuture  = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightFuture = loadingFutures.putIfAbsent(key, loadingFuture);
+        if (inFlightFuture != null) {
+            try {
+                return (T) fromStoreValue(inFlightFuture.join());
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            storeValue = load(key, valueLoader);
+            loadingFuture.complete(storeValue);
+            return (T) fromStoreValue(storeValue);
+        } catch (Exception e) {
+            loadingFuture.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loadingFutures.remove(key, loadingFuture);
+        }
+    }
+
+    /**
+     * L2 캐시와 L1 캐시에 값을 저장하고, 다른 노드의 L1 캐시에 남은 이전 값을 무효화합니다. 백그라운드 갱신으로 값을 덮어쓸 때도 이 메서드를
+     * 거치므로 다른 노드가 이전 값을 계속 반환하지 않습니다.
+     *
+     * @param key   - 캐시 키
+     * @param value - 저장할 값
+     */
+    @Override
+    public void put(final Object key, final Object value) {
+        remoteCache.put(key, value);
+        localCache.put(key, toStoreValue(value));
+        cacheManager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(final Object key, final Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        localCache.put(key, toStoreValue(existing != null ? existing.get() : value));
+        if (existing == null) cacheManager.publishInvalidation(name, key);
+        return existing;
+    }
+
+    @Override
+    public void evict(final Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        cacheManager.publishInvalidation(name, key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        cacheManager.publishInvalidation(name, null);
+    }
+
+    /**
+     * 다른 노드에서 전달된 무효화 메시지를 L1 캐시에만 반영합니다.
+     *
+     * @param key - 캐시 키
+     */
+    void evictLocal(final Object key) {
+        localCache.invalidate(key);
+    }
+
+    /**
+     * 다른 노드에서 전달된 전체 무효화 메시지를 L1 캐시에만 반영합니다.
+     */
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 분산 락이 설정된 경우 락을 획득한 뒤 L2 캐시를 다시 확인하고, 여전히 없을 때만 값을 적재합니다. 락 대기 시간을 넘기면 락 없이 적재합니다.
+     *
+     * @param key         - 캐시 키
+     * @param valueLoader - 값 적재 함수
+     * @return 저장된 값
+     */
+    private Object load(final Object key, final Callable<?> valueLoader) throws Exception {
+        if (redissonClient == null) return loadAndPut(key, valueLoader);
+
+        RLock   lock   = redissonClient.getLock(String.format(LOCK_KEY_PREFIX, name, key));
+        boolean locked = lock.tryLock(
+                spec.getLockWait().toMillis(), spec.getLockLease().toMillis(), TimeUnit.MILLISECONDS
+        );
+        try {
+            ValueWrapper wrapper = remoteCache.get(key);
+            if (wrapper != null) {
+                Object storeValue = toStoreValue(wrapper.get());
+                localCache.put(key, storeValue);
+                return storeValue;
+            }
+            return loadAndPut(key, valueLoader);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) lock.unlock();
+        }
+    }
+
+    private Object loadAndPut(final Object key, final Callable<?> valueLoader) throws Exception {
+        Object value = valueLoader.call();
+        put(key, value);
+        return toStoreValue(value);
+    }
+
+}
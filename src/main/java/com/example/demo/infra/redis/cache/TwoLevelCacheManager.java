@@ -0,0 +1,173 @@
+package com.example.demo.infra.redis.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.example.demo.infra.redis.config.properties.CacheRefreshProperties;
+import com.example.demo.infra.redis.config.properties.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * PackageName : com.example.demo.infra.redis.cache
+ * FileName    : TwoLevelCacheManager
+ * Author      : oldolgol331
+ * Date        : 25. 9. 10.
+ * Description : RedisCacheManager 앞단에 L1 캐시와 백그라운드 갱신을 적용하고, Redis Pub/Sub으로 노드 간 L1 무효화를 전파하는
+ *               CacheManager
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 10.    oldolgol331          Initial creation
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final String                     nodeId     = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> nearCaches = new ConcurrentHashMap<>();
+
+    private final RedisCacheManager      redisCacheManager;
+    private final StringRedisTemplate    stringRedisTemplate;
+    private final RedissonClient         redissonClient;
+    private final NearCacheProperties    properties;
+    private final CacheRefreshProperties refreshProperties;
+    private final TaskExecutor           refreshExecutor;
+
+    public TwoLevelCacheManager(
+            final RedisCacheManager redisCacheManager,
+            final StringRedisTemplate stringRedisTemplate,
+            final RedissonClient redissonClient,
+            final NearCacheProperties properties,
+            final CacheRefreshProperties refreshProperties,
+            final TaskExecutor refreshExecutor
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+        this.refreshProperties = refreshProperties;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        redisCacheManager.initializeCaches();
+
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : redisCacheManager.getCacheNames()) {
+            Cache remoteCache = redisCacheManager.getCache(cacheName);
+            if (remoteCache != null) caches.add(decorate(remoteCache));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(final String name) {
+        Cache remoteCache = redisCacheManager.getCache(name);
+        return remoteCache != null ? decorate(remoteCache) : null;
+    }
+
+    /**
+     * 다른 노드의 L1 캐시 무효화 메시지를 수신합니다. 자기 자신이 발행한 메시지는 무시합니다.
+     *
+     * @param message - 수신 메시지
+     * @param pattern - 구독 패턴
+     */
+    @Override
+    public void onMessage(final Message message, final byte[] pattern) {
+        String[] parts = new String(message.getBody(), UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) return;
+
+        TwoLevelCache cache = nearCaches.get(parts[1]);
+        if (cache == null) return;
+
+        if (parts[2].isEmpty()) cache.clearLocal();
+        else cache.evictLocal(parts[2]);
+    }
+
+    /**
+     * L1 캐시 무효화 메시지를 발행합니다. 문자열이 아닌 키는 노드 간 동일성을 보장할 수 없으므로 전체 무효화로 전파합니다.
+     *
+     * @param cacheName - 캐시 이름
+     * @param key       - 캐시 키, 전체 무효화일 경우 null
+     */
+    void publishInvalidation(final String cacheName, final Object key) {
+        String payload = String.join(SEPARATOR, nodeId, cacheName, key instanceof String ? (String) key : "");
+        try {
+            stringRedisTemplate.convertAndSend(properties.getChannel(), payload);
+        } catch (Exception e) {
+            log.warn("Failed to publish near cache invalidation. cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    // ========================= Private Methods =========================
+
+    private Cache decorate(final Cache remoteCache) {
+        return decorateWithRefreshAhead(decorateWithNearCache(remoteCache));
+    }
+
+    /**
+     * 설정에 갱신 스펙이 있는 캐시만 RefreshAheadCache로 감쌉니다. Redis의 물리적 TTL에서 이전 값을 반환할 기간을 뺀 만큼을 논리적 TTL로
+     * 사용합니다.
+     *
+     * @param cache - 캐시
+     * @return 백그라운드 갱신이 적용된 캐시 또는 기존 캐시
+     */
+    private Cache decorateWithRefreshAhead(final Cache cache) {
+        CacheRefreshProperties.Spec spec = refreshProperties.getCaches().get(cache.getName());
+        if (spec == null) return cache;
+
+        RedisCacheConfiguration config = redisCacheManager.getCacheConfigurations().get(cache.getName());
+        if (config == null || config.getTtl().isZero()) return cache;
+
+        Duration freshTtl = config.getTtl().minus(spec.getStaleTtl());
+        if (freshTtl.isNegative() || freshTtl.isZero()) return cache;
+
+        return new RefreshAheadCache(cache, freshTtl, spec.getBeta(), refreshExecutor);
+    }
+
+    /**
+     * 설정에 L1 캐시 스펙이 있는 캐시만 TwoLevelCache로 감쌉니다.
+     *
+     * @param remoteCache - Redis 캐시
+     * @return L1 캐시가 적용된 캐시 또는 Redis 캐시
+     */
+    private Cache decorateWithNearCache(final Cache remoteCache) {
+        NearCacheProperties.Spec spec = properties.getCaches().get(remoteCache.getName());
+        if (!properties.isEnabled() || spec == null) return remoteCache;
+
+        return nearCaches.computeIfAbsent(
+                remoteCache.getName(),
+                name -> new TwoLevelCache(
+                        name,
+                        Caffeine.newBuilder()
+                                .maximumSize(spec.getMaximumSize())
+                                .expireAfterWrite(spec.getTtl().toMillis(), TimeUnit.MILLISECONDS)
+                                .build(),
+                        remoteCache,
+                        this,
+                        spec.isDistributedLock() ? redissonClient : null,
+                        spec
+                )
+        );
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.example.demo.infra.redis.config;
 
+import com.example.demo.infra.redis.cache.CacheGenerationManager;
 import java.lang.reflect.Method;
 import java.util.StringJoiner;
+import lombok.RequiredArgsConstructor;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
@@ -20,14 +22,30 @@ import org.springframework.stereotype.Component;
  */
 @Profile("!test")
 @Component("listKeyGenerator")
+@RequiredArgsConstructor
 public class ListKeyGenerator implements KeyGenerator {
 
+    private final CacheGenerationManager cacheGenerationManager;
+
     @Override
     public Object generate(Object target, Method method, Object... params) {
+        return generate(target.getClass(), method.getName(), params);
+    }
+
+    /**
+     * 대상 클래스의 현재 세대 번호를 포함한 목록 캐시 키를 생성합니다.
+     *
+     * @param targetClass - 대상 클래스
+     * @param methodName  - 메서드 이름
+     * @param params      - 메서드 파라미터
+     * @return 캐시 키
+     */
+    public String generate(final Class<?> targetClass, final String methodName, final Object... params) {
         StringJoiner key = new StringJoiner(":");
 
-        key.add(target.getClass().getSimpleName());
-        key.add(method.getName());
+        key.add(targetClass.getSimpleName());
+        key.add("g" + cacheGenerationManager.getGeneration(targetClass.getSimpleName()));
+        key.add(methodName);
 
         for (Object param : params) {
             if (param == null) key.add("null");
@@ -43,4 +61,13 @@ public class ListKeyGenerator implements KeyGenerator {
         return key.toString();
     }
 
+    /**
+     * 대상 클래스의 세대 번호를 증가시켜 기존 목록 캐시 키를 모두 무효화합니다.
+     *
+     * @param targetClass - 대상 클래스
+     */
+    public void increaseGeneration(final Class<?> targetClass) {
+        cacheGenerationManager.increaseGeneration(targetClass.getSimpleName());
+    }
+
 }
@@ -1,5 +1,11 @@
 package com.example.demo.infra.redis.config;
 
+import com.example.demo.infra.redis.cache.TwoLevelCacheManager;
+import com.example.demo.infra.redis.config.properties.CacheCodecProperties;
+import com.example.demo.infra.redis.config.properties.CacheCodecProperties.Codec;
+import com.example.demo.infra.redis.config.properties.CacheRefreshProperties;
+import com.example.demo.infra.redis.config.properties.NearCacheProperties;
+import com.example.demo.infra.redis.serializer.CompactRedisSerializer;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
@@ -8,7 +14,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,9 +23,14 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * PackageName : com.example.demo.infra.redis.config
@@ -36,10 +48,17 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @RequiredArgsConstructor
 public class RedisCacheConfig {
 
-    private final ObjectMapper objectMapper;
+    private final ObjectMapper           objectMapper;
+    private final NearCacheProperties    nearCacheProperties;
+    private final CacheRefreshProperties cacheRefreshProperties;
+    private final CacheCodecProperties   cacheCodecProperties;
 
     @Bean
-    public CacheManager cacheManager(final RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(
+            final RedisConnectionFactory redisConnectionFactory,
+            final RedissonClient redissonClient,
+            @Qualifier("cacheRefreshExecutor") final ThreadPoolTaskExecutor cacheRefreshExecutor
+    ) {
         ObjectMapper copiedObjectMapper = objectMapper.copy();
 
         copiedObjectMapper.activateDefaultTyping(
@@ -48,20 +67,70 @@ public class RedisCacheConfig {
                 JsonTypeInfo.As.PROPERTY
         );
 
-        RedisCacheConfiguration defaultConfig = createCacheConfiguration(Duration.ofHours(1), copiedObjectMapper);
+        RedisSerializer<Object> jsonSerializer    = new GenericJackson2JsonRedisSerializer(copiedObjectMapper);
+        RedisSerializer<Object> compactSerializer = new CompactRedisSerializer(
+                (int) cacheCodecProperties.getCompressionThreshold().toBytes(), jsonSerializer
+        );
+
+        RedisCacheConfiguration defaultConfig = createCacheConfiguration(Duration.ofHours(1), jsonSerializer);
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-        cacheConfigurations.put("posts", createCacheConfiguration(Duration.ofMinutes(10), copiedObjectMapper));
-        cacheConfigurations.put("comments", createCacheConfiguration(Duration.ofMinutes(30), copiedObjectMapper));
-
-        return RedisCacheManager.builder(redisConnectionFactory)
-                                .cacheDefaults(defaultConfig)
-                                .withInitialCacheConfigurations(cacheConfigurations)
-                                .transactionAware()
-                                .build();
+        cacheConfigurations.put(
+                "posts",
+                createCacheConfiguration(
+                        Duration.ofMinutes(10), selectSerializer("posts", jsonSerializer, compactSerializer)
+                )
+        );
+        cacheConfigurations.put(
+                "comments",
+                createCacheConfiguration(
+                        Duration.ofMinutes(30), selectSerializer("comments", jsonSerializer, compactSerializer)
+                )
+        );
+        cacheConfigurations.put(
+                "postDetail",
+                createCacheConfiguration(
+                        Duration.ofMinutes(10), selectSerializer("postDetail", jsonSerializer, compactSerializer)
+                )
+        );
+
+        // 백그라운드 갱신 캐시는 논리적 만료 이후에도 이전 값을 반환할 수 있도록 그만큼 Redis TTL을 늘립니다.
+        cacheRefreshProperties.getCaches().forEach(
+                (cacheName, spec) -> cacheConfigurations.computeIfPresent(
+                        cacheName, (name, config) -> config.entryTtl(config.getTtl().plus(spec.getStaleTtl()))
+                )
+        );
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
+                                                               .cacheDefaults(defaultConfig)
+                                                               .withInitialCacheConfigurations(cacheConfigurations)
+                                                               .build();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                new StringRedisTemplate(redisConnectionFactory),
+                redissonClient,
+                nearCacheProperties,
+                cacheRefreshProperties,
+                cacheRefreshExecutor
+        );
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
     }
 
-    private RedisCacheConfiguration createCacheConfiguration(final Duration ttl, final ObjectMapper objectMapper) {
+    @Bean
+    public RedisMessageListenerContainer nearCacheInvalidationListenerContainer(
+            final RedisConnectionFactory redisConnectionFactory, final TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(nearCacheProperties.getChannel()));
+        return container;
+    }
+
+    private RedisCacheConfiguration createCacheConfiguration(
+            final Duration ttl, final RedisSerializer<Object> valueSerializer
+    ) {
         return RedisCacheConfiguration.defaultCacheConfig()
                                       .entryTtl(ttl)
                                       .serializeKeysWith(
@@ -71,11 +140,27 @@ public class RedisCacheConfig {
                                       )
                                       .serializeValuesWith(
                                               RedisSerializationContext.SerializationPair.fromSerializer(
-                                                      new GenericJackson2JsonRedisSerializer(objectMapper)
+                                                      valueSerializer
                                               )
                                       );
     }
 
+    /**
+     * 캐시별로 설정된 값 직렬화 형식을 선택합니다. 설정이 없으면 JSON을 사용합니다.
+     *
+     * @param cacheName         - 캐시 이름
+     * @param jsonSerializer    - JSON 직렬화기
+     * @param compactSerializer - Smile 직렬화기
+     * @return 값 직렬화기
+     */
+    private RedisSerializer<Object> selectSerializer(
+            final String cacheName,
+            final RedisSerializer<Object> jsonSerializer,
+            final RedisSerializer<Object> compactSerializer
+    ) {
+        return cacheCodecProperties.getCaches().get(cacheName) == Codec.SMILE ? compactSerializer : jsonSerializer;
+    }
+
     @Bean
     public KeyGenerator customKeyGenerator() {
         return (target, method, params) -> {
@@ -2,9 +2,14 @@ package com.example.demo.infra.redis.config;
 
 import static com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping.NON_FINAL;
 
+import com.example.demo.infra.redis.config.properties.CacheCodecProperties;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import com.example.demo.infra.redis.dao.RedisRepositoryImpl;
+import com.example.demo.infra.redis.serializer.CompactRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -63,4 +68,45 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * 값을 Smile로 직렬화하는 RedisTemplate입니다. INCR 등 Redis가 값을 직접 해석하는 연산에는 사용할 수 없으므로, 크기가 큰 객체 값을 저장할
+     * 때만 사용합니다.
+     *
+     * @param redisConnectionFactory - Redis 연결 팩토리
+     * @param cacheCodecProperties   - 직렬화 설정
+     * @return Smile 직렬화 RedisTemplate
+     */
+    @Bean
+    public RedisTemplate<String, Object> compactRedisTemplate(
+            final RedisConnectionFactory redisConnectionFactory, final CacheCodecProperties cacheCodecProperties
+    ) {
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(redisConnectionFactory);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        PolymorphicTypeValidator ptv = BasicPolymorphicTypeValidator.builder()
+                                                                    .allowIfBaseType(Object.class)
+                                                                    .build();
+        objectMapper.activateDefaultTyping(ptv, NON_FINAL);
+
+        CompactRedisSerializer compactSerializer = new CompactRedisSerializer(
+                (int) cacheCodecProperties.getCompressionThreshold().toBytes(),
+                new GenericJackson2JsonRedisSerializer(objectMapper)
+        );
+
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(compactSerializer);
+        redisTemplate.setHashValueSerializer(compactSerializer);
+        return redisTemplate;
+    }
+
+    @Bean
+    public RedisRepository compactRedisRepository(
+            @Qualifier("compactRedisTemplate") final RedisTemplate<String, Object> compactRedisTemplate,
+            final ObjectMapper objectMapper
+    ) {
+        return new RedisRepositoryImpl(compactRedisTemplate, objectMapper);
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.example.demo.infra.redis.config.properties;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * PackageName : com.example.demo.infra.redis.config.properties
+ * FileName    : CacheCodecProperties
+ * Author      : oldolgol331
+ * Date        : 25. 9. 15.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 15.    oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "cache.codec")
+@Getter
+@Setter
+public class CacheCodecProperties {
+
+    private DataSize           compressionThreshold = DataSize.ofKilobytes(1);
+    private Map<String, Codec> caches               = new HashMap<>();
+
+    public enum Codec {
+        JSON, SMILE
+    }
+
+}
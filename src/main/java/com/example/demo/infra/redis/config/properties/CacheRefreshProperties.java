@@ -0,0 +1,35 @@
+package com.example.demo.infra.redis.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PackageName : com.example.demo.infra.redis.config.properties
+ * FileName    : CacheRefreshProperties
+ * Author      : oldolgol331
+ * Date        : 25. 9. 14.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 14.    oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "cache.refresh")
+@Getter
+@Setter
+public class CacheRefreshProperties {
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private Duration staleTtl = Duration.ofMinutes(1);
+        private double   beta     = 1.0;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.demo.infra.redis.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * PackageName : com.example.demo.infra.redis.config.properties
+ * FileName    : NearCacheProperties
+ * Author      : oldolgol331
+ * Date        : 25. 9. 10.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 10.    oldolgol331          Initial creation
+ */
+@ConfigurationProperties(prefix = "cache.near")
+@Getter
+@Setter
+public class NearCacheProperties {
+
+    private boolean           enabled = true;
+    private String            channel = "cache:near:invalidation";
+    private Map<String, Spec> caches  = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long     maximumSize     = 1000;
+        private Duration ttl             = Duration.ofSeconds(30);
+        private boolean  distributedLock = false;
+        private Duration lockWait        = Duration.ofSeconds(2);
+        private Duration lockLease       = Duration.ofSeconds(5);
+    }
+
+}
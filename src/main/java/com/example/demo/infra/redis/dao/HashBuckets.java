@@ -0,0 +1,45 @@
+package com.example.demo.infra.redis.dao;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * PackageName : com.example.demo.infra.redis.dao
+ * FileName    : HashBuckets
+ * Author      : oldolgol331
+ * Date        : 25. 9. 19.
+ * Description : ID별 값을 키 하나씩이 아니라 ID 구간별 해시의 필드로 나누어 저장하기 위한 키와 필드 계산. 구간 크기는 Redis의 기본
+ *               hash-max-listpack-entries(128)보다 작아 해시가 listpack으로 압축 저장됩니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 19.    oldolgol331          Initial creation
+ */
+@NoArgsConstructor(access = PRIVATE)
+public class HashBuckets {
+
+    public static final int BUCKET_SIZE = 100;
+
+    /**
+     * ID가 속한 구간의 해시 키를 반환합니다.
+     *
+     * @param keyPattern - 구간 번호 자리(%s)를 포함한 키 패턴
+     * @param id         - ID
+     * @return 해시 키
+     */
+    public static String key(final String keyPattern, final long id) {
+        return String.format(keyPattern, id / BUCKET_SIZE);
+    }
+
+    /**
+     * 구간 해시 안에서 ID에 해당하는 필드를 반환합니다.
+     *
+     * @param id - ID
+     * @return 해시 필드
+     */
+    public static String field(final long id) {
+        return String.valueOf(id % BUCKET_SIZE);
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 
 /**
  * PackageName : com.example.demo.infra.redis.dao
@@ -46,6 +47,8 @@ public interface RedisRepository {
 
     Cursor<String> scan(ScanOptions options);
 
+    <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args);
+
     //==================================================
     //== String (Value) Operations
     //==================================================
@@ -100,6 +103,8 @@ public interface RedisRepository {
 
     <T> List<T> multiGetHash(String key, Collection<String> hashKeys, Class<T> type);
 
+    <T> List<List<T>> pipelineMultiGetHash(List<String> keys, Collection<String> hashKeys, Class<T> type);
+
     Map<Object, Object> getAllHash(String key);
 
     Long deleteHash(String key, Object... hashKeys);
@@ -110,6 +115,8 @@ public interface RedisRepository {
 
     Double incrementHash(String key, String hashKey, double delta);
 
+    <T> Map<Long, T> multiGetBucketedHash(String keyPattern, Collection<Long> ids, Class<T> type);
+
     //==================================================
     //== Set Operations
     //==================================================
@@ -126,6 +133,8 @@ public interface RedisRepository {
 
     Map<Object, Boolean> isSetMember(String key, Object... values);
 
+    void pipelineAddToSet(Collection<String> keys, Object value, Duration duration);
+
     //==================================================
     //== List Operations
     //==================================================
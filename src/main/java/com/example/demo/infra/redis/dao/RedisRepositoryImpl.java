@@ -2,8 +2,11 @@ package com.example.demo.infra.redis.dao;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,10 +14,15 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -28,6 +36,7 @@ import org.springframework.stereotype.Repository;
  * ---------------------------------------------------------------------------------------------------------------------
  * 25. 8. 24.    oldolgol331          Initial creation
  */
+@Primary
 @Repository
 @RequiredArgsConstructor
 public class RedisRepositoryImpl implements RedisRepository {
@@ -84,6 +93,23 @@ public class RedisRepositoryImpl implements RedisRepository {
         return redisTemplate.scan(options);
     }
 
+    /**
+     * 스크립트를 실행합니다. SHA로 EVALSHA를 먼저 시도하고, 서버에 스크립트가 없으면(NOSCRIPT) EVAL로 다시 적재합니다. 인자와 문자열 결과는
+     * 값 직렬화기를 거치지 않고 문자열로 주고받습니다.
+     *
+     * @param script - 스크립트
+     * @param keys   - 키 목록
+     * @param args   - 인자 목록
+     * @return 실행 결과
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T executeScript(final RedisScript<T> script, final List<String> keys, final Object... args) {
+        Object[]           stringArgs       = Arrays.stream(args).map(String::valueOf).toArray();
+        RedisSerializer<T> resultSerializer = (RedisSerializer<T>) (RedisSerializer<?>) RedisSerializer.string();
+        return redisTemplate.execute(script, RedisSerializer.string(), resultSerializer, keys, stringArgs);
+    }
+
     //==================================================
     //== String (Value) Operations
     //==================================================
@@ -220,6 +246,38 @@ public class RedisRepositoryImpl implements RedisRepository {
                      .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 해시에서 같은 필드들을 조회합니다. 해시마다 HMGET을 한 번씩 파이프라인으로 보냅니다.
+     *
+     * @param keys     - 해시 키 목록
+     * @param hashKeys - 필드 목록
+     * @param type     - 값 타입
+     * @return 해시 키와 같은 순서의 필드 값 목록, 없는 필드는 null
+     */
+    @Override
+    public <T> List<List<T>> pipelineMultiGetHash(
+            final List<String> keys, final Collection<String> hashKeys, final Class<T> type
+    ) {
+        if (keys == null || keys.isEmpty()) return Collections.emptyList();
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(final RedisOperations operations) {
+                keys.forEach(key -> operations.opsForHash().multiGet(key, hashKeys));
+                return null;
+            }
+        });
+
+        return results.stream()
+                      .map(values -> ((List<?>) values).stream()
+                                                       .map(value -> value != null
+                                                                     ? objectMapper.convertValue(value, type)
+                                                                     : null)
+                                                       .collect(Collectors.<T>toList()))
+                      .collect(Collectors.toList());
+    }
+
     @Override
     public Map<Object, Object> getAllHash(final String key) {
         return redisTemplate.opsForHash().entries(key);
@@ -245,6 +303,50 @@ public class RedisRepositoryImpl implements RedisRepository {
         return redisTemplate.opsForHash().increment(key, hashKey, delta);
     }
 
+    /**
+     * 구간 해시에 나누어 저장된 ID별 값을 조회합니다. 구간마다 HMGET을 한 번씩 파이프라인으로 보냅니다.
+     *
+     * @param keyPattern - 구간 번호 자리(%s)를 포함한 키 패턴
+     * @param ids        - ID 목록
+     * @param type       - 값 타입
+     * @return ID와 값, 값이 없는 ID는 포함되지 않음
+     */
+    @Override
+    public <T> Map<Long, T> multiGetBucketedHash(
+            final String keyPattern, final Collection<Long> ids, final Class<T> type
+    ) {
+        if (ids == null || ids.isEmpty()) return Collections.emptyMap();
+
+        Map<String, List<Long>> idsByBucket = ids.stream()
+                                                 .distinct()
+                                                 .collect(Collectors.groupingBy(
+                                                         id -> HashBuckets.key(keyPattern, id),
+                                                         LinkedHashMap::new,
+                                                         Collectors.toList()
+                                                 ));
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(final RedisOperations operations) {
+                idsByBucket.forEach((key, bucketIds) -> operations.opsForHash().multiGet(
+                        key, bucketIds.stream().map(HashBuckets::field).collect(Collectors.toList())
+                ));
+                return null;
+            }
+        });
+
+        Map<Long, T> values = new HashMap<>();
+        int          index  = 0;
+        for (List<Long> bucketIds : idsByBucket.values()) {
+            List<?> bucketValues = (List<?>) results.get(index++);
+            for (int i = 0; i < bucketIds.size(); i++)
+                if (bucketValues.get(i) != null)
+                    values.put(bucketIds.get(i), objectMapper.convertValue(bucketValues.get(i), type));
+        }
+        return values;
+    }
+
     //==================================================
     //== Set Operations
     //==================================================
@@ -282,6 +384,29 @@ public class RedisRepositoryImpl implements RedisRepository {
         return map;
     }
 
+    /**
+     * 여러 집합에 같은 값을 추가하고 만료 시간을 설정합니다. 집합마다 SADD와 EXPIRE를 한 번씩 파이프라인으로 보냅니다.
+     *
+     * @param keys     - 집합 키 목록
+     * @param value    - 추가할 값
+     * @param duration - 만료 시간
+     */
+    @Override
+    public void pipelineAddToSet(final Collection<String> keys, final Object value, final Duration duration) {
+        if (keys == null || keys.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(final RedisOperations operations) {
+                keys.forEach(key -> {
+                    operations.opsForSet().add(key, value);
+                    operations.expire(key, duration);
+                });
+                return null;
+            }
+        });
+    }
+
     //==================================================
     //== List Operations
     //==================================================
@@ -0,0 +1,121 @@
+package com.example.demo.infra.redis.serializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * PackageName : com.example.demo.infra.redis.serializer
+ * FileName    : CompactRedisSerializer
+ * Author      : oldolgol331
+ * Date        : 25. 9. 15.
+ * Description : 값을 Smile(바이너리 JSON)로 직렬화하고, 임계값 이상의 크기는 압축해서 저장하는 RedisSerializer
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 15.    oldolgol331          Initial creation
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte PLAIN    = 0x00;
+    private static final byte DEFLATED = 0x01;
+
+    private final ObjectMapper            objectMapper;
+    private final int                     compressionThreshold;
+    private final RedisSerializer<Object> fallbackSerializer;
+
+    /**
+     * @param compressionThreshold - 압축을 적용할 최소 크기(bytes)
+     * @param fallbackSerializer   - 헤더가 없는 기존 값(JSON 등)을 읽을 때 사용할 직렬화기
+     */
+    public CompactRedisSerializer(final int compressionThreshold, final RedisSerializer<Object> fallbackSerializer) {
+        this.objectMapper = Jackson2ObjectMapperBuilder.smile().failOnEmptyBeans(false).build();
+        this.objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        this.compressionThreshold = compressionThreshold;
+        this.fallbackSerializer = fallbackSerializer;
+    }
+
+    /**
+     * 값을 Smile로 직렬화합니다. 첫 바이트에 형식을 기록하며, 임계값 이상이고 압축 결과가 더 작을 때만 압축된 값을 저장합니다.
+     *
+     * @param value - 값
+     * @return 직렬화된 값
+     */
+    @Override
+    public byte[] serialize(final Object value) throws SerializationException {
+        if (value == null) return new byte[0];
+        try {
+            byte[] encoded = objectMapper.writeValueAsBytes(value);
+            if (encoded.length >= compressionThreshold) {
+                byte[] deflated = deflate(encoded);
+                if (deflated.length < encoded.length + 1) return deflated;
+            }
+            return withHeader(encoded);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write compact value: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 첫 바이트의 형식에 따라 값을 역직렬화합니다. 형식 헤더가 없는 값은 전환 이전에 저장된 값으로 보고 대체 직렬화기로 읽습니다.
+     *
+     * @param bytes - 직렬화된 값
+     * @return 값
+     */
+    @Override
+    public Object deserialize(final byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        try {
+            switch (bytes[0]) {
+                case PLAIN:
+                    return objectMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case DEFLATED:
+                    try (InputStream in = new InflaterInputStream(
+                            new ByteArrayInputStream(bytes, 1, bytes.length - 1)
+                    )) {
+                        return objectMapper.readValue(in, Object.class);
+                    }
+                default:
+                    return fallbackSerializer.deserialize(bytes);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read compact value: " + e.getMessage(), e);
+        }
+    }
+
+    // ========================= Private Methods =========================
+
+    private byte[] withHeader(final byte[] encoded) {
+        byte[] bytes = new byte[encoded.length + 1];
+        bytes[0] = PLAIN;
+        System.arraycopy(encoded, 0, bytes, 1, encoded.length);
+        return bytes;
+    }
+
+    private byte[] deflate(final byte[] encoded) throws IOException {
+        ByteArrayOutputStream buffer   = new ByteArrayOutputStream(encoded.length / 2 + 16);
+        Deflater              deflater = new Deflater(Deflater.BEST_SPEED);
+        buffer.write(DEFLATED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(encoded);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+}
@@ -3,6 +3,8 @@ DROP TABLE IF EXISTS members CASCADE;
 DROP TABLE IF EXISTS oauth_connections CASCADE;
 DROP TABLE IF EXISTS posts CASCADE;
 DROP TABLE IF EXISTS post_likes CASCADE;
+DROP TABLE IF EXISTS post_counter_shards CASCADE;
+DROP TABLE IF EXISTS post_outbox CASCADE;
 DROP TABLE IF EXISTS comments CASCADE;
 DROP TABLE IF EXISTS comment_likes CASCADE;
 SET FOREIGN_KEY_CHECKS = 1;
@@ -40,19 +42,21 @@ CREATE TABLE oauth_connections
 
 CREATE TABLE posts
 (
-    post_id       BIGINT UNSIGNED  NOT NULL AUTO_INCREMENT COMMENT '게시글 고유 식별자',
-    member_id     BINARY(16)       NOT NULL COMMENT '작성한 회원 ID',
-    title         VARCHAR(255)     NOT NULL COMMENT '게시글 제목',
-    content       TEXT             NOT NULL COMMENT '게시글 내용',
-    view_count    BIGINT UNSIGNED  NOT NULL DEFAULT 0 COMMENT '조회수',
-    like_count    INTEGER UNSIGNED NOT NULL DEFAULT 0 COMMENT '추천수',
-    comment_count INTEGER UNSIGNED NOT NULL DEFAULT 0 COMMENT '댓글 수',
-    is_deleted    TINYINT(1)       NOT NULL DEFAULT 0 COMMENT '삭제 여부',
-    created_at    DATETIME         NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
-    updated_at    DATETIME         NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
-    deleted_at    DATETIME         NULL COMMENT '삭제 일시',
+    post_id             BIGINT UNSIGNED  NOT NULL AUTO_INCREMENT COMMENT '게시글 고유 식별자',
+    member_id           BINARY(16)       NOT NULL COMMENT '작성한 회원 ID',
+    title               VARCHAR(255)     NOT NULL COMMENT '게시글 제목',
+    content             TEXT             NOT NULL COMMENT '게시글 내용',
+    view_count          BIGINT UNSIGNED  NOT NULL DEFAULT 0 COMMENT '조회수',
+    like_count          INTEGER UNSIGNED NOT NULL DEFAULT 0 COMMENT '추천수',
+    comment_count       INTEGER UNSIGNED NOT NULL DEFAULT 0 COMMENT '댓글 수',
+    is_deleted          TINYINT(1)       NOT NULL DEFAULT 0 COMMENT '삭제 여부',
+    created_at          DATETIME         NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 일시',
+    updated_at          DATETIME         NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 일시',
+    deleted_at          DATETIME         NULL COMMENT '삭제 일시',
+    counters_updated_at DATETIME         NULL COMMENT '좋아요 수, 댓글 수, 조회수 변경 일시',
     CONSTRAINT PK_posts PRIMARY KEY (post_id),
     CONSTRAINT FK_posts_members FOREIGN KEY (member_id) REFERENCES members (member_id),
+    INDEX IDX_posts_created_at_post_id (created_at, post_id),
     FULLTEXT INDEX IDX_fulltext_posts_title_content (title, content) WITH PARSER ngram
 ) COMMENT '게시글 테이블';
 
@@ -67,6 +71,24 @@ CREATE TABLE post_likes
     CONSTRAINT FK_post_likes_posts FOREIGN KEY (post_id) REFERENCES posts (post_id)
 ) COMMENT '게시글 좋아요 테이블';
 
+CREATE TABLE post_counter_shards
+(
+    post_id  BIGINT UNSIGNED  NOT NULL COMMENT '게시글 ID',
+    shard    TINYINT UNSIGNED NOT NULL COMMENT '분할 번호',
+    comments INTEGER          NOT NULL DEFAULT 0 COMMENT '게시글에 반영되지 않은 댓글 수 증가분',
+    views    BIGINT           NOT NULL DEFAULT 0 COMMENT '게시글에 반영되지 않은 조회수 증가분',
+    CONSTRAINT PK_post_counter_shards PRIMARY KEY (post_id, shard)
+) COMMENT '게시글 카운터 분할 테이블 (posts 행 잠금을 피하기 위해 외래 키를 두지 않음)';
+
+CREATE TABLE post_outbox
+(
+    outbox_id   BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '아웃박스 고유 식별자',
+    post_id     BIGINT UNSIGNED NOT NULL COMMENT '변경된 게시글 ID',
+    change_type VARCHAR(20)     NOT NULL COMMENT '변경 유형',
+    created_at  DATETIME(3)     NOT NULL COMMENT '변경 일시',
+    CONSTRAINT PK_post_outbox PRIMARY KEY (outbox_id)
+) COMMENT '게시글 변경 아웃박스 테이블';
+
 CREATE TABLE comments
 (
     comment_id BIGINT UNSIGNED  NOT NULL AUTO_INCREMENT COMMENT '댓글 고유 식별자',
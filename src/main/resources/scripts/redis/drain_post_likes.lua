@@ -0,0 +1,11 @@
+-- DB 반영 대기 해시를 처리 중 해시로 옮기고, 처리 중 해시의 전체 작업을 반환합니다.
+-- 처리 중 해시가 남아 있으면 이전 처리가 끝나지 않은 것이므로 옮기지 않고 남은 작업을 다시 반환합니다.
+-- 작업은 멱등하게 반영되므로, 반영 도중 중단되어 다시 반환된 작업을 재처리해도 결과가 같습니다.
+-- KEYS[1] : DB 반영 대기 해시 (post:like:pending)
+-- KEYS[2] : 처리 중 해시 (post:like:draining)
+-- 반환값  : 처리 중 해시의 전체 필드와 값
+if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+
+return redis.call('HGETALL', KEYS[2])
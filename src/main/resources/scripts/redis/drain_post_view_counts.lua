@@ -0,0 +1,24 @@
+-- 조회수가 증가한 게시글 ID를 최대 ARGV[1]개 꺼내, 구간 해시의 조회수 증가분을 처리 중 해시로 원자적으로 옮깁니다.
+-- 옮긴 뒤에 들어온 증가분은 구간 해시의 새 필드와 집합 항목으로 다시 기록되므로 유실되지 않습니다.
+-- 구간 해시 키는 게시글 ID로 계산하므로 KEYS에 선언되지 않으며, 단일 Redis 노드를 전제로 합니다.
+-- KEYS[1] : 조회수가 증가한 게시글 ID를 기록하는 집합 (post:view:dirty)
+-- KEYS[2] : 처리 중인 조회수 증가분 해시 (post:view:draining), 필드는 게시글 ID
+-- ARGV[1] : 한 번에 꺼낼 게시글 ID 개수
+-- ARGV[2] : 구간 해시 키 접두사 (post:views:)
+-- ARGV[3] : 구간 크기
+-- 반환값  : 처리 중 해시의 전체 필드와 값 (이전 처리에서 반영되지 못한 증가분 포함)
+local ids = redis.call('SPOP', KEYS[1], ARGV[1])
+local size = tonumber(ARGV[3])
+
+for _, id in ipairs(ids) do
+    local postId = tonumber(id)
+    local key = ARGV[2] .. string.format('%d', math.floor(postId / size))
+    local field = string.format('%d', postId % size)
+    local count = redis.call('HGET', key, field)
+    if count then
+        redis.call('HDEL', key, field)
+        redis.call('HINCRBY', KEYS[2], id, count)
+    end
+end
+
+return redis.call('HGETALL', KEYS[2])
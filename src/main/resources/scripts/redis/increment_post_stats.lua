@@ -0,0 +1,11 @@
+-- 게시글 통계 해시가 있을 때만 필드 값을 증가시킵니다.
+-- 해시가 없으면 다음 조회에서 DB 값으로 초기화되므로, 일부 필드만 있는 해시를 만들지 않습니다.
+-- KEYS[1] : 게시글 통계 해시 키 (post:stats:{postId})
+-- ARGV[1] : 필드 (views, likes, comments)
+-- ARGV[2] : 증가량
+-- 반환값  : 증가된 값, 해시가 없으면 nil
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])
+end
+
+return nil
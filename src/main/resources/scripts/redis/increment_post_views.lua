@@ -0,0 +1,27 @@
+-- 게시글 조회 기록과 조회수 증가를 원자적으로 처리합니다.
+-- KEYS[1]          : 조회수가 증가한 게시글 ID를 기록하는 집합 (post:view:dirty)
+-- KEYS[2..n+1]     : 조회 기록 키 (post:view:log:{postId}:{clientIp})
+-- KEYS[n+2..2n+1]  : 조회 기록 키와 같은 순서의 조회수 구간 해시 키 (post:views:{postId / 구간 크기})
+-- KEYS[2n+2..3n+1] : 조회 기록 키와 같은 순서의 게시글 통계 해시 키 (post:stats:{postId}), 있을 때만 조회수 반영
+-- ARGV[1]          : 조회 기록 TTL(초)
+-- ARGV[2]          : 구간 크기
+-- ARGV[3..n+2]     : 조회 기록 키와 같은 순서의 게시글 ID
+-- 반환값           : 조회수에 반영된 첫 조회 수
+local n = (#KEYS - 1) / 3
+local ttl = tonumber(ARGV[1])
+local size = tonumber(ARGV[2])
+local applied = 0
+
+for i = 1, n do
+    if redis.call('SET', KEYS[1 + i], 1, 'NX', 'EX', ttl) then
+        local postId = ARGV[2 + i]
+        redis.call('HINCRBY', KEYS[1 + n + i], string.format('%d', tonumber(postId) % size), 1)
+        redis.call('SADD', KEYS[1], postId)
+        if redis.call('EXISTS', KEYS[1 + 2 * n + i]) == 1 then
+            redis.call('HINCRBY', KEYS[1 + 2 * n + i], 'views', 1)
+        end
+        applied = applied + 1
+    end
+end
+
+return applied
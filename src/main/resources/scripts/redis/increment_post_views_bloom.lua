@@ -0,0 +1,55 @@
+-- 일자별 공용 Bloom 필터에 없던 (게시글, 조회자) 쌍만 필터에 추가하고 조회수에 반영합니다.
+-- KEYS[1]          : 조회수가 증가한 게시글 ID를 기록하는 집합 (post:view:dirty)
+-- KEYS[2]          : 모든 게시글이 함께 쓰는 일자별 Bloom 필터 키 (post:view:bloom:{yyyyMMdd})
+-- KEYS[3..n+2]     : 게시글 순서대로의 조회수 구간 해시 키 (post:views:{postId / 구간 크기})
+-- KEYS[n+3..2n+2]  : 게시글 순서대로의 게시글 통계 해시 키 (post:stats:{postId}), 있을 때만 조회수 반영
+-- ARGV[1]          : Bloom 필터 보관 기간(초)
+-- ARGV[2]          : 해시 함수 개수 k
+-- ARGV[3]          : 구간 크기
+-- ARGV[4..]        : 게시글마다 게시글 ID, 조회자 수 c와, 조회자마다 "게시글 ID:IP"의 k개 비트 위치
+-- 반환값           : 조회수에 반영된 조회 수
+local n = (#KEYS - 2) / 2
+local ttl = tonumber(ARGV[1])
+local k = tonumber(ARGV[2])
+local size = tonumber(ARGV[3])
+local pos = 4
+local applied = 0
+
+for i = 1, n do
+    local postId = ARGV[pos]
+    local count = tonumber(ARGV[pos + 1])
+    local added = 0
+    pos = pos + 2
+
+    for j = 1, count do
+        local seen = true
+        for h = 0, k - 1 do
+            if redis.call('GETBIT', KEYS[2], ARGV[pos + h]) == 0 then
+                seen = false
+                break
+            end
+        end
+        if not seen then
+            for h = 0, k - 1 do
+                redis.call('SETBIT', KEYS[2], ARGV[pos + h], 1)
+            end
+            added = added + 1
+        end
+        pos = pos + k
+    end
+
+    if added > 0 then
+        redis.call('HINCRBY', KEYS[2 + i], string.format('%d', tonumber(postId) % size), added)
+        redis.call('SADD', KEYS[1], postId)
+        if redis.call('EXISTS', KEYS[2 + n + i]) == 1 then
+            redis.call('HINCRBY', KEYS[2 + n + i], 'views', added)
+        end
+        applied = applied + added
+    end
+end
+
+if redis.call('TTL', KEYS[2]) < 0 then
+    redis.call('EXPIRE', KEYS[2], ttl)
+end
+
+return applied
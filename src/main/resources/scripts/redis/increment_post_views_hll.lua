@@ -0,0 +1,43 @@
+-- 게시글별 HyperLogLog에 조회자를 추가하고, 추가 전후 PFCOUNT 추정치의 차이만큼 조회수에 반영합니다.
+-- PFADD의 반환값은 내부 레지스터가 바뀌었는지만 알려 주므로, 고유 조회자가 많아지면 새 조회자여도 0을 반환해 조회수를 크게 과소 집계합니다.
+-- KEYS[1]          : 조회수가 증가한 게시글 ID를 기록하는 집합 (post:view:dirty)
+-- KEYS[2..n+1]     : 게시글별 일자별 HyperLogLog 키 (post:view:hll:{postId}:{yyyyMMdd})
+-- KEYS[n+2..2n+1]  : HyperLogLog 키와 같은 순서의 조회수 구간 해시 키 (post:views:{postId / 구간 크기})
+-- KEYS[2n+2..3n+1] : HyperLogLog 키와 같은 순서의 게시글 통계 해시 키 (post:stats:{postId}), 있을 때만 조회수 반영
+-- ARGV[1]          : HyperLogLog 보관 기간(초)
+-- ARGV[2]          : 구간 크기
+-- ARGV[3..]        : 게시글마다 게시글 ID, 조회자 수 c와 c개의 클라이언트 IP
+-- 반환값           : 조회수에 반영된 조회 수
+local n = (#KEYS - 1) / 3
+local ttl = tonumber(ARGV[1])
+local size = tonumber(ARGV[2])
+local pos = 3
+local applied = 0
+
+for i = 1, n do
+    local postId = ARGV[pos]
+    local count = tonumber(ARGV[pos + 1])
+    local before = redis.call('PFCOUNT', KEYS[1 + i])
+    pos = pos + 2
+
+    for j = 1, count do
+        redis.call('PFADD', KEYS[1 + i], ARGV[pos])
+        pos = pos + 1
+    end
+
+    local added = redis.call('PFCOUNT', KEYS[1 + i]) - before
+
+    if redis.call('TTL', KEYS[1 + i]) < 0 then
+        redis.call('EXPIRE', KEYS[1 + i], ttl)
+    end
+    if added > 0 then
+        redis.call('HINCRBY', KEYS[1 + n + i], string.format('%d', tonumber(postId) % size), added)
+        redis.call('SADD', KEYS[1], postId)
+        if redis.call('EXISTS', KEYS[1 + 2 * n + i]) == 1 then
+            redis.call('HINCRBY', KEYS[1 + 2 * n + i], 'views', added)
+        end
+        applied = applied + added
+    end
+end
+
+return applied
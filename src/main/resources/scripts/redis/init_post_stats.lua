@@ -0,0 +1,19 @@
+-- 게시글 통계 해시가 없는 게시글만 조회수, 좋아요 수, 댓글 수로 초기화합니다.
+-- 이미 있는 해시는 그 사이에 반영된 증가분을 잃지 않도록 덮어쓰지 않습니다.
+-- KEYS[1..n] : 게시글 통계 해시 키 (post:stats:{postId})
+-- ARGV[1]    : 게시글 통계 해시 TTL(초)
+-- ARGV[2..]  : 게시글 통계 해시 키와 같은 순서로 게시글마다 조회수, 좋아요 수, 댓글 수
+-- 반환값     : 초기화한 게시글 통계 해시 수
+local ttl = tonumber(ARGV[1])
+local initialized = 0
+
+for i = 1, #KEYS do
+    if redis.call('EXISTS', KEYS[i]) == 0 then
+        local pos = 2 + (i - 1) * 3
+        redis.call('HSET', KEYS[i], 'views', ARGV[pos], 'likes', ARGV[pos + 1], 'comments', ARGV[pos + 2])
+        redis.call('EXPIRE', KEYS[i], ttl)
+        initialized = initialized + 1
+    end
+end
+
+return initialized
@@ -0,0 +1,15 @@
+-- 게시글 좋아요 회원 집합이 없을 때만 DB의 좋아요 회원으로 적재합니다.
+-- 좋아요한 회원이 없어도 적재 여부를 알 수 있도록 표식 항목을 함께 추가합니다.
+-- KEYS[1]   : 게시글 좋아요 회원 집합 (post:likes:{postId})
+-- ARGV[1]   : 표식 항목
+-- ARGV[2..] : 좋아요한 회원 ID
+-- 반환값    : 적재했으면 1, 이미 있으면 0
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+for i = 1, #ARGV do
+    redis.call('SADD', KEYS[1], ARGV[i])
+end
+
+return 1
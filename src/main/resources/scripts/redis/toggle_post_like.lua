@@ -0,0 +1,27 @@
+-- 게시글 좋아요를 원자적으로 추가하거나 취소하고, DB에 반영할 작업을 대기 해시에 기록합니다.
+-- 같은 회원의 반복된 토글은 대기 해시의 같은 필드를 덮어쓰므로 마지막 상태만 DB에 반영됩니다.
+-- KEYS[1] : 게시글 좋아요 회원 집합 (post:likes:{postId}), 적재 여부를 나타내는 표식 항목 포함
+-- KEYS[2] : DB 반영 대기 해시 (post:like:pending), 필드는 {postId}:{memberId}, 값은 1(추가) 또는 0(취소)
+-- KEYS[3] : 게시글 통계 해시 (post:stats:{postId}), 있을 때만 좋아요 수 반영
+-- ARGV[1] : 회원 ID
+-- ARGV[2] : 게시글 ID
+-- 반환값  : {좋아요 여부(1/0), 좋아요 수}, 좋아요 회원 집합이 적재되지 않았으면 nil
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return nil
+end
+
+local liked
+if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then
+    liked = 1
+else
+    redis.call('SREM', KEYS[1], ARGV[1])
+    liked = 0
+end
+
+redis.call('HSET', KEYS[2], ARGV[2] .. ':' .. ARGV[1], liked)
+if redis.call('EXISTS', KEYS[3]) == 1 then
+    redis.call('HINCRBY', KEYS[3], 'likes', liked == 1 and 1 or -1)
+end
+
+-- 표식 항목은 좋아요 수에 포함하지 않습니다.
+return {liked, redis.call('SCARD', KEYS[1]) - 1}
@@ -0,0 +1,132 @@
+package com.example.demo.domain.comment.dao;
+
+import static com.example.demo.domain.common.util.TestUtils.createMember;
+import static com.example.demo.domain.member.model.MemberStatus.ACTIVE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import com.example.demo.common.config.EnableJpaAuditingConfig;
+import com.example.demo.common.config.P6SpyConfig;
+import com.example.demo.common.config.QuerydslConfig;
+import com.example.demo.domain.comment.model.Comment;
+import com.example.demo.domain.comment.service.CommentServiceImpl;
+import com.example.demo.domain.member.dao.MemberRepository;
+import com.example.demo.domain.member.model.Member;
+import com.example.demo.domain.post.dao.PostRepository;
+import com.example.demo.domain.post.dao.counter.PostCounterWriter;
+import com.example.demo.domain.post.model.Post;
+import com.example.demo.domain.post.service.PostCacheService;
+import com.example.demo.domain.post.service.PostCountService;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PackageName : com.example.demo.domain.comment.dao
+ * FileName    : CommentLikeBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 20.
+ * Description : 좋아요 10만 건이 있는 댓글에서 좋아요 토글 비용을 컬렉션 적재 방식과 비교합니다. RUN_BENCHMARKS가 true일 때만
+ *               실행합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 20.    oldolgol331          Initial creation
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@Import({EnableJpaAuditingConfig.class, P6SpyConfig.class, QuerydslConfig.class})
+@Slf4j
+class CommentLikeBenchmarkTest {
+
+    private static final int EXISTING_LIKES = 100_000;
+    private static final int TOGGLES        = 101;
+
+    @Autowired
+    private TestEntityManager     em;
+    @Autowired
+    private CommentRepository     commentRepository;
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+    @Autowired
+    private PostRepository        postRepository;
+    @Autowired
+    private MemberRepository      memberRepository;
+
+    private CommentServiceImpl commentService;
+    private Long               postId;
+    private Long               commentId;
+    private UUID               likerId;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentServiceImpl(
+                commentRepository, commentLikeRepository, postRepository, memberRepository,
+                mock(PostCacheService.class), mock(PostCountService.class), mock(PostCounterWriter.class),
+                mock(ApplicationEventPublisher.class)
+        );
+
+        Member writer = em.persist(createMember());
+        Member liker  = createMember();
+        liker.setMemberStatus(ACTIVE);
+        em.persist(liker);
+        Post post = em.persist(Post.of(writer, "title", "content"));
+        postId = post.getId();
+        commentId = em.persist(Comment.of(writer, post, "content")).getId();
+        likerId = liker.getId();
+        em.flush();
+
+        // 회원 10만 명을 만드는 대신 외래 키 검사를 끄고 좋아요 행만 채웁니다.
+        em.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
+        em.getEntityManager()
+          .createNativeQuery(
+                  "INSERT INTO comment_likes (member_id, comment_id, created_at, updated_at) "
+                  + "SELECT CAST(RANDOM_UUID() AS BINARY(16)), ?1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                  + "FROM SYSTEM_RANGE(1, ?2)"
+          )
+          .setParameter(1, commentId)
+          .setParameter(2, EXISTING_LIKES)
+          .executeUpdate();
+        em.getEntityManager().createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        commentRepository.updateLikeCount(commentId, EXISTING_LIKES);
+        em.clear();
+    }
+
+    @Test
+    void likeCommentWithoutLoadingCollection() {
+        // when
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < TOGGLES; i++)
+            commentService.likeComment(commentId, postId, likerId);
+        long setBasedNanos = System.nanoTime() - startedAt;
+
+        // then
+        em.clear();
+        startedAt = System.nanoTime();
+        int  collectionSize  = em.find(Comment.class, commentId).getCommentLikes().size();
+        long collectionNanos = System.nanoTime() - startedAt;
+
+        log.info(
+                "Comment like toggle with {} likes. likeComment: {}us/toggle, "
+                + "collection load (previous @PreUpdate): {}us",
+                EXISTING_LIKES, setBasedNanos / TOGGLES / 1_000, collectionNanos / 1_000
+        );
+
+        assertAll(
+                () -> assertEquals(EXISTING_LIKES + 1, em.find(Comment.class, commentId).getLikeCount()),
+                () -> assertEquals(EXISTING_LIKES + 1, collectionSize)
+        );
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.example.demo.domain.post.scheduler;
+
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DIRTY_KEY;
+import static com.example.demo.domain.post.constant.PostConst.POST_VIEW_DRAINING_KEY;
+import static com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping.NON_FINAL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.demo.domain.post.scheduler.processor.PostViewCountProcessor;
+import com.example.demo.domain.post.service.dedupe.LogKeyPostViewDeduplicator;
+import com.example.demo.infra.redis.dao.RedisRepository;
+import com.example.demo.infra.redis.dao.RedisRepositoryImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+/**
+ * PackageName : com.example.demo.domain.post.scheduler
+ * FileName    : PostViewCountSyncSchedulerTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 18.
+ * Description :
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 18.    oldolgol331          Initial creation
+ */
+class PostViewCountSyncSchedulerTest {
+
+    private static final int POST_COUNT     = 20;
+    private static final int WRITER_COUNT   = 8;
+    private static final int VIEWS_PER_TASK = 2000;
+
+    private static RedisServer                   redisServer;
+    private static LettuceConnectionFactory      connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private RedisRepository            redisRepository;
+    private LogKeyPostViewDeduplicator deduplicator;
+    private PostViewCountSyncScheduler scheduler;
+
+    private final Map<Long, AtomicLong> syncedViewCounts = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = findAvailablePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfBaseType(Object.class).build(), NON_FINAL
+        );
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.flushAll();
+            return null;
+        }, true);
+
+        redisRepository = new RedisRepositoryImpl(redisTemplate, new ObjectMapper());
+        deduplicator = new LogKeyPostViewDeduplicator(redisRepository);
+
+        RLock lock = mock(RLock.class);
+        when(lock.tryLock()).thenReturn(true);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getLock(anyString())).thenReturn(lock);
+
+        // DB 반영 대신 증가분을 합산하고, 커밋 이후 작업처럼 처리 중 해시에서 제거합니다.
+        PostViewCountProcessor processor = mock(PostViewCountProcessor.class);
+        doAnswer(invocation -> {
+            Map<String, Long> drainedCounts = invocation.getArgument(0);
+            drainedCounts.forEach(
+                    (key, count) -> syncedViewCounts.computeIfAbsent(
+                            Long.parseLong(key), id -> new AtomicLong()
+                    ).addAndGet(count)
+            );
+            redisRepository.deleteHash(POST_VIEW_DRAINING_KEY, drainedCounts.keySet().toArray());
+            return null;
+        }).when(processor).processChunk(anyMap());
+
+        scheduler = new PostViewCountSyncScheduler(processor, redisRepository, redissonClient);
+    }
+
+    @Test
+    void syncViewCountWhileIncrementing() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(WRITER_COUNT + 1);
+        CountDownLatch  start    = new CountDownLatch(1);
+        AtomicBoolean   writing  = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_COUNT; w++) {
+            final int writer = w;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < VIEWS_PER_TASK; i++) {
+                    long postId = i % POST_COUNT + 1;
+                    Map<Long, Set<String>> views = Collections.singletonMap(
+                            postId, Collections.singleton("10.0." + writer + "." + i)
+                    );
+                    deduplicator.record(views);
+                }
+                return null;
+            }));
+        }
+        Future<?> syncer = executor.submit(() -> {
+            start.await();
+            while (writing.get()) scheduler.syncViewCount();
+            return null;
+        });
+
+        // when
+        start.countDown();
+        for (Future<?> writerFuture : writers) writerFuture.get(60, TimeUnit.SECONDS);
+        writing.set(false);
+        syncer.get(60, TimeUnit.SECONDS);
+        scheduler.syncViewCount();
+        executor.shutdown();
+
+        // then
+        long expectedPerPost = (long) WRITER_COUNT * VIEWS_PER_TASK / POST_COUNT;
+        long total = syncedViewCounts.values().stream().mapToLong(AtomicLong::get).sum();
+
+        assertAll(
+                () -> assertEquals((long) WRITER_COUNT * VIEWS_PER_TASK, total),
+                () -> assertEquals(POST_COUNT, syncedViewCounts.size()),
+                () -> syncedViewCounts.values().forEach(count -> assertEquals(expectedPerPost, count.get())),
+                () -> assertFalse(redisTemplate.hasKey(POST_VIEW_DIRTY_KEY)),
+                () -> assertFalse(redisTemplate.hasKey(POST_VIEW_DRAINING_KEY))
+        );
+    }
+
+    private static int findAvailablePort() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        }
+    }
+
+}
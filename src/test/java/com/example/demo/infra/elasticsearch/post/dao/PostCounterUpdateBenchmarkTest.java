@@ -0,0 +1,174 @@
+package com.example.demo.infra.elasticsearch.post.dao;
+
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_INDEX_PREFIX;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_READ_ALIAS;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import com.example.demo.domain.post.model.PostDto;
+import com.example.demo.infra.elasticsearch.post.index.PostIndexManager;
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.elasticsearch.action.get.GetRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.RestHighLevelClientBuilder;
+import org.elasticsearch.xcontent.XContentType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.dao
+ * FileName    : PostCounterUpdateBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 27.
+ * Description : 좋아요 1건을 색인하는 비용을 문서 전체 재색인과 카운터 부분 업데이트로 비교합니다. BENCHMARK_ELASTICSEARCH_URI에 nori
+ *               플러그인이 설치된 빈 Elasticsearch를 지정했을 때만 실행합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 27.    oldolgol331          Initial creation
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_ELASTICSEARCH_URI", matches = ".+")
+@Slf4j
+class PostCounterUpdateBenchmarkTest {
+
+    private static final int DOCUMENTS          = 1_000;
+    private static final int CONTENT_WORDS      = 2_000;
+    private static final int WARMUP_ITERATIONS  = 500;
+    private static final int MEASURE_ITERATIONS = 2_000;
+
+    private RestHighLevelClient       restHighLevelClient;
+    private ElasticsearchRestTemplate elasticsearchRestTemplate;
+    private List<PostDocument>        documents;
+    private boolean                   indexCreated;
+
+    @BeforeEach
+    void setUp() {
+        restHighLevelClient = new RestHighLevelClientBuilder(
+                RestClient.builder(HttpHost.create(System.getenv("BENCHMARK_ELASTICSEARCH_URI"))).build()
+        )
+                .setApiCompatibilityMode(true)
+                .build();
+        elasticsearchRestTemplate = new ElasticsearchRestTemplate(restHighLevelClient);
+
+        // 기존 posts 인덱스를 덮어쓰지 않도록, 비어 있는 클러스터에서만 실행합니다.
+        assumeFalse(elasticsearchRestTemplate.indexOps(IndexCoordinates.of(POST_READ_ALIAS)).exists());
+        new PostIndexManager(restHighLevelClient, elasticsearchRestTemplate, 0).initializeAliases();
+        indexCreated = true;
+
+        LocalDateTime now     = LocalDateTime.now();
+        String        content = String.join(" ", Collections.nCopies(CONTENT_WORDS, "게시글 본문"));
+        documents = new ArrayList<>();
+        for (long id = 1; id <= DOCUMENTS; id++)
+            documents.add(PostDocument.from(PostDto.builder()
+                                                   .id(id)
+                                                   .writerId(UUID.randomUUID())
+                                                   .writer("writer" + id % 100)
+                                                   .title("게시글 제목 " + id)
+                                                   .content(content)
+                                                   .viewCount(0L)
+                                                   .likeCount(0)
+                                                   .isDeleted(false)
+                                                   .commentCount(0)
+                                                   .createdAt(now.minusMinutes(id))
+                                                   .updatedAt(now)
+                                                   .build()));
+        elasticsearchRestTemplate.save(documents, IndexCoordinates.of(POST_WRITE_ALIAS));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (indexCreated) elasticsearchRestTemplate.indexOps(IndexCoordinates.of(POST_INDEX_PREFIX + 1)).delete();
+        restHighLevelClient.close();
+    }
+
+    @Test
+    void likeWithPartialUpdateAgainstFullReindex() throws IOException {
+        // when
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            indexFullDocument(documents.get(i % DOCUMENTS));
+            updateCounters(documents.get(i % DOCUMENTS), i);
+        }
+
+        long fullBytes = 0;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++)
+            fullBytes += indexFullDocument(documents.get(i % DOCUMENTS));
+        long fullNanos = System.nanoTime() - startedAt;
+
+        long partialBytes = 0;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++)
+            partialBytes += updateCounters(documents.get(i % DOCUMENTS), i + 1);
+        long partialNanos = System.nanoTime() - startedAt;
+
+        // then
+        Map<String, Object> source = restHighLevelClient.get(
+                new GetRequest(POST_WRITE_ALIAS, documents.get(0).getId()), RequestOptions.DEFAULT
+        ).getSourceAsMap();
+        assertEquals(documents.get(0).getContent(), source.get("content"));
+        assertEquals(MEASURE_ITERATIONS - DOCUMENTS + 1, source.get("likeCount"));
+
+        log.info(
+                "Post like indexing ({} documents, {} bytes of content). full reindex: {}us/like, {} bytes/like, "
+                + "counter partial update: {}us/like, {} bytes/like",
+                DOCUMENTS, documents.get(0).getContent().getBytes(StandardCharsets.UTF_8).length,
+                fullNanos / MEASURE_ITERATIONS / 1_000, fullBytes / MEASURE_ITERATIONS,
+                partialNanos / MEASURE_ITERATIONS / 1_000, partialBytes / MEASURE_ITERATIONS
+        );
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 이전 방식과 같이 게시글 문서 전체를 다시 만들어 색인합니다.
+     *
+     * @param document - 게시글 문서
+     * @return 요청 본문 크기
+     */
+    private long indexFullDocument(final PostDocument document) throws IOException {
+        String source = elasticsearchRestTemplate.getElasticsearchConverter().mapObject(document).toJson();
+        restHighLevelClient.index(
+                new IndexRequest(POST_WRITE_ALIAS).id(document.getId()).source(source, XContentType.JSON),
+                RequestOptions.DEFAULT
+        );
+        return source.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * 아웃박스 릴레이와 같이 조회수, 좋아요 수, 댓글 수만 부분 문서로 반영합니다.
+     *
+     * @param document  - 게시글 문서
+     * @param likeCount - 새 좋아요 수
+     * @return 요청 본문 크기
+     */
+    private long updateCounters(final PostDocument document, final int likeCount) throws IOException {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("viewCount", document.getViewCount());
+        fields.put("likeCount", likeCount);
+        fields.put("commentCount", document.getCommentCount());
+        UpdateRequest request = new UpdateRequest(POST_WRITE_ALIAS, document.getId()).doc(fields);
+        restHighLevelClient.update(request, RequestOptions.DEFAULT);
+        return request.doc().source().length();
+    }
+
+}
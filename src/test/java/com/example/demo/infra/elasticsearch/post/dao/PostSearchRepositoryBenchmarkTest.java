@@ -0,0 +1,155 @@
+package com.example.demo.infra.elasticsearch.post.dao;
+
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_INDEX_PREFIX;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_READ_ALIAS;
+import static com.example.demo.infra.elasticsearch.post.constant.PostIndexConst.POST_WRITE_ALIAS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
+import com.example.demo.domain.post.model.PostDto;
+import com.example.demo.infra.elasticsearch.post.index.PostIndexManager;
+import com.example.demo.infra.elasticsearch.post.model.PostDocument;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.RestHighLevelClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.dao
+ * FileName    : PostSearchRepositoryBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 27.
+ * Description : 게시글 목록 한 페이지를 track_total_hits 검색 한 번으로 조회하는 방식과, 이전의 검색/개수/카운트 세 번 호출 방식의 응답
+ *               시간을 비교합니다. BENCHMARK_ELASTICSEARCH_URI에 nori 플러그인이 설치된 빈 Elasticsearch를 지정했을 때만 실행합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 27.    oldolgol331          Initial creation
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_ELASTICSEARCH_URI", matches = ".+")
+@Slf4j
+class PostSearchRepositoryBenchmarkTest {
+
+    private static final int      DOCUMENTS          = 10_000;
+    private static final int      BATCH_SIZE         = 1_000;
+    private static final int      WARMUP_ITERATIONS  = 200;
+    private static final int      MEASURE_ITERATIONS = 1_000;
+    private static final Pageable PAGEABLE           = PageRequest.of(5, 20);
+
+    private RestHighLevelClient       restHighLevelClient;
+    private ElasticsearchRestTemplate elasticsearchRestTemplate;
+    private PostSearchRepositoryImpl  postSearchRepository;
+    private boolean                   indexCreated;
+
+    @BeforeEach
+    void setUp() {
+        restHighLevelClient = new RestHighLevelClientBuilder(
+                RestClient.builder(HttpHost.create(System.getenv("BENCHMARK_ELASTICSEARCH_URI"))).build()
+        )
+                .setApiCompatibilityMode(true)
+                .build();
+        elasticsearchRestTemplate = new ElasticsearchRestTemplate(restHighLevelClient);
+        postSearchRepository = new PostSearchRepositoryImpl(elasticsearchRestTemplate, elasticsearchRestTemplate);
+
+        // 기존 posts 인덱스를 덮어쓰지 않도록, 비어 있는 클러스터에서만 실행합니다.
+        assumeFalse(elasticsearchRestTemplate.indexOps(IndexCoordinates.of(POST_READ_ALIAS)).exists());
+        new PostIndexManager(restHighLevelClient, elasticsearchRestTemplate, 0).initializeAliases();
+        indexCreated = true;
+
+        LocalDateTime      now       = LocalDateTime.now();
+        List<PostDocument> documents = new ArrayList<>();
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            documents.add(PostDocument.from(PostDto.builder()
+                                                   .id(id)
+                                                   .writerId(UUID.randomUUID())
+                                                   .writer("writer" + id % 100)
+                                                   .title("게시글 제목 " + id)
+                                                   .content("게시글 본문 " + id + " 검색 성능 측정을 위한 내용입니다.")
+                                                   .viewCount(id * 10)
+                                                   .likeCount((int) (id % 50))
+                                                   .isDeleted(false)
+                                                   .commentCount((int) (id % 20))
+                                                   .createdAt(now.minusMinutes(id))
+                                                   .updatedAt(now)
+                                                   .build()));
+            if (documents.size() == BATCH_SIZE) {
+                elasticsearchRestTemplate.save(documents, IndexCoordinates.of(POST_WRITE_ALIAS));
+                documents.clear();
+            }
+        }
+        elasticsearchRestTemplate.indexOps(IndexCoordinates.of(POST_READ_ALIAS)).refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (indexCreated) elasticsearchRestTemplate.indexOps(IndexCoordinates.of(POST_INDEX_PREFIX + 1)).delete();
+        restHighLevelClient.close();
+    }
+
+    @Test
+    void singleSearchAgainstThreeCalls() {
+        for (String keyword : new String[]{null, "제목"}) {
+            // given
+            Page<PostListResponse> page = postSearchRepository.getPosts(keyword, PAGEABLE);
+            assertEquals(postSearchRepository.countByKeyword(keyword), page.getTotalElements());
+
+            // when
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                getPageWithThreeCalls(keyword);
+                postSearchRepository.getPosts(keyword, PAGEABLE);
+            }
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++)
+                getPageWithThreeCalls(keyword);
+            long threeCallsNanos = System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            for (int i = 0; i < MEASURE_ITERATIONS; i++)
+                postSearchRepository.getPosts(keyword, PAGEABLE);
+            long singleSearchNanos = System.nanoTime() - startedAt;
+
+            // then
+            log.info(
+                    "Post list page (keyword: {}, {} documents). search + count + findCountsById: {}us/page, "
+                    + "single track_total_hits search: {}us/page",
+                    keyword, DOCUMENTS, threeCallsNanos / MEASURE_ITERATIONS / 1_000,
+                    singleSearchNanos / MEASURE_ITERATIONS / 1_000
+            );
+        }
+    }
+
+    // ========================= Private Methods =========================
+
+    /**
+     * 이전 목록 조회 경로와 같이 검색, 전체 개수, 카운트 조회를 순서대로 요청합니다.
+     *
+     * @param keyword - 검색어
+     */
+    private void getPageWithThreeCalls(final String keyword) {
+        Page<PostListResponse> page = postSearchRepository.getPosts(keyword, PAGEABLE);
+        postSearchRepository.countByKeyword(keyword);
+        postSearchRepository.findCountsById(page.getContent()
+                                                .stream()
+                                                .map(PostListResponse::getId)
+                                                .collect(Collectors.toList()));
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.example.demo.infra.elasticsearch.post.model;
+
+import static com.example.demo.domain.common.util.TestUtils.createMember;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.example.demo.common.config.EnableJpaAuditingConfig;
+import com.example.demo.common.config.P6SpyConfig;
+import com.example.demo.common.config.QuerydslConfig;
+import com.example.demo.domain.member.model.Member;
+import com.example.demo.domain.post.dao.PostRepository;
+import com.example.demo.domain.post.model.Post;
+import java.time.LocalDateTime;
+import javax.persistence.Persistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+/**
+ * PackageName : com.example.demo.infra.elasticsearch.post.model
+ * FileName    : PostDocumentTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 27.
+ * Description : 게시글 엔티티로 문서를 만들 때 댓글 컬렉션을 적재하지 않는지 확인합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 27.    oldolgol331          Initial creation
+ */
+@DataJpaTest
+@Import({EnableJpaAuditingConfig.class, P6SpyConfig.class, QuerydslConfig.class})
+class PostDocumentTest {
+
+    private static final int EXISTING_COMMENTS = 100;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private PostRepository    postRepository;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = em.persist(createMember());
+        postId = em.persist(Post.of(writer, "title", "content")).getId();
+        em.flush();
+
+        em.getEntityManager()
+          .createNativeQuery(
+                  "INSERT INTO comments (member_id, post_id, content, like_count, is_deleted, created_at, updated_at) "
+                  + "SELECT P.member_id, P.post_id, 'comment', 0, FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                  + "FROM posts AS P, SYSTEM_RANGE(1, ?2) WHERE P.post_id = ?1"
+          )
+          .setParameter(1, postId)
+          .setParameter(2, EXISTING_COMMENTS)
+          .executeUpdate();
+        postRepository.updateCommentCount(postId, EXISTING_COMMENTS, LocalDateTime.now());
+        em.clear();
+    }
+
+    @Test
+    void fromPostWithoutLoadingComments() {
+        // given
+        Post post = postRepository.findById(postId).orElseThrow(IllegalStateException::new);
+
+        // when
+        PostDocument document = PostDocument.from(post);
+
+        // then
+        assertAll(
+                () -> assertFalse(Persistence.getPersistenceUtil().isLoaded(post, "comments")),
+                () -> assertEquals(EXISTING_COMMENTS, document.getCommentCount())
+        );
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.example.demo.infra.redis.serializer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.demo.domain.post.dto.PostResponse.PostListResponse;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * PackageName : com.example.demo.infra.redis.serializer
+ * FileName    : CompactRedisSerializerBenchmarkTest
+ * Author      : oldolgol331
+ * Date        : 25. 9. 27.
+ * Description : 게시글 목록 캐시 값의 크기와 직렬화/역직렬화 시간을 JSON, Smile, Smile + Deflate 직렬화기 간에 비교합니다.
+ *               RUN_BENCHMARKS가 true일 때만 실행합니다.
+ * =====================================================================================================================
+ * DATE          AUTHOR               DESCRIPTION
+ * ---------------------------------------------------------------------------------------------------------------------
+ * 25. 9. 27.    oldolgol331          Initial creation
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@Slf4j
+class CompactRedisSerializerBenchmarkTest {
+
+    private static final int PAGE_SIZE           = 20;
+    private static final int WARMUP_ITERATIONS   = 20_000;
+    private static final int MEASURE_ITERATIONS  = 50_000;
+    private static final int COMPRESSION_DEFAULT = 1024;
+
+    private RedisSerializer<Object> jsonSerializer;
+    private RedisSerializer<Object> smileSerializer;
+    private RedisSerializer<Object> deflateSerializer;
+    private List<PostListResponse>  page;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        smileSerializer = new CompactRedisSerializer(Integer.MAX_VALUE, jsonSerializer);
+        deflateSerializer = new CompactRedisSerializer(COMPRESSION_DEFAULT, jsonSerializer);
+
+        page = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (long i = 1; i <= PAGE_SIZE; i++)
+            page.add(PostListResponse.builder()
+                                     .id(i)
+                                     .writerId(UUID.randomUUID())
+                                     .writer("writer" + i)
+                                     .title("게시글 제목 " + i)
+                                     .viewCount(i * 1_000)
+                                     .likeCount((int) i * 10)
+                                     .isDeleted(false)
+                                     .createdAt(now.minusDays(i))
+                                     .updatedAt(now)
+                                     .commentCount((int) i)
+                                     .build());
+    }
+
+    @Test
+    void compareSerializers() {
+        // when
+        long[] json    = measure(jsonSerializer);
+        long[] smile   = measure(smileSerializer);
+        long[] deflate = measure(deflateSerializer);
+
+        // then
+        log.info("Post list page of {} items (bytes, serialize ns/op, deserialize ns/op)", PAGE_SIZE);
+        log.info("  GenericJackson2JsonRedisSerializer : {}, {}, {}", json[0], json[1], json[2]);
+        log.info("  CompactRedisSerializer (Smile)     : {}, {}, {}", smile[0], smile[1], smile[2]);
+        log.info("  CompactRedisSerializer (Deflate)   : {}, {}, {}", deflate[0], deflate[1], deflate[2]);
+    }
+
+    // ========================= Private Methods =========================
+
+    private long[] measure(final RedisSerializer<Object> serializer) {
+        byte[] bytes = serializer.serialize(page);
+        assertEquals(PAGE_SIZE, ((List<?>) serializer.deserialize(bytes)).size());
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += serializer.serialize(page).length;
+            sink += ((List<?>) serializer.deserialize(bytes)).size();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++)
+            sink += serializer.serialize(page).length;
+        long serializeNanos = System.nanoTime() - startedAt;
+
+        startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++)
+            sink += ((List<?>) serializer.deserialize(bytes)).size();
+        long deserializeNanos = System.nanoTime() - startedAt;
+
+        log.debug("sink: {}", sink);
+        return new long[]{bytes.length, serializeNanos / MEASURE_ITERATIONS, deserializeNanos / MEASURE_ITERATIONS};
+    }
+
+}